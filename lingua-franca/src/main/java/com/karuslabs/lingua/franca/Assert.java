@@ -59,7 +59,7 @@ public class Assert {
             return ((String[]) child).length <= ((String[]) parent).length;
             
         } else {
-            return parent instanceof String && child instanceof String;
+            return (parent instanceof String || parent instanceof Message) && (child instanceof String || child instanceof Message);
         }
     }
     
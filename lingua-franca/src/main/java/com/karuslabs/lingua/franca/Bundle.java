@@ -23,9 +23,13 @@
  */
 package com.karuslabs.lingua.franca;
 
-import java.text.MessageFormat;
+import com.google.common.collect.Iterators;
+
+import java.io.*;
 import java.util.*;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -44,27 +48,18 @@ public class Bundle {
     }
         
     
-    /**
-     * Does not leak memory since MesssageFormat is a JDK class. Since MessageFormat
-     * is a JDK class, it is loaded at startup and not when this class is loaded.
-     * Only a single MessageFormat class will always be present.
-     *
-     * The memory leak will only occur if a custom value (library subclass of MessageFormat)
-     * is used.
-     */
-    private static final ThreadLocal<MessageFormat> FORMATTER = new ThreadLocal<>() {
-        @Override
-        public MessageFormat initialValue() {
-            return new MessageFormat("");
-        }
-    };
-        
     protected static final Optional<String> EMPTY_STRING = Optional.empty();
     protected static final Optional<String[]> EMPTY_ARRAY = Optional.empty();
     
+    static final int MISSES = 512;
+    static final Object MISSING = new Object();
+    static final Slots UNUSED = new Slots(null, new AtomicReferenceArray<>(0));
+    
     
     protected ConcurrentMap<String, Object> messages;
     private volatile @Nullable Set<String> keys;
+    private volatile @Nullable Set<String> misses;
+    private volatile Slots slots;
     private final Locale locale;
     protected Bundle parent;
     private volatile int hash;
@@ -77,6 +72,8 @@ public class Bundle {
     public Bundle(ConcurrentMap<String, Object> messages, Locale locale, Bundle parent) {
         this.messages = messages;
         this.keys = null;
+        this.misses = null;
+        this.slots = UNUSED;
         this.locale = locale;
         this.parent = parent;
         this.hash = 0;
@@ -84,73 +81,324 @@ public class Bundle {
 
     
     public Optional<String> get(String key) {
-        var message = retrieve(key);
-        return message instanceof String ? Optional.of((String) message) : EMPTY_STRING;
+        return Optional.ofNullable(text(retrieve(key)));
     }
     
     public Optional<String> get(String key, Object... arguments) {
-        var message = retrieve(key);
-        return message instanceof String ? Optional.of(format((String) message, arguments)) : EMPTY_STRING;
+        return Optional.ofNullable(render(retrieve(key), arguments));
+    }
+    
+    public Optional<String> get(MessageKey key) {
+        return Optional.ofNullable(text(retrieve(key)));
+    }
+    
+    public Optional<String> get(MessageKey key, Object... arguments) {
+        return Optional.ofNullable(render(retrieve(key), arguments));
     }
     
     
     public @Nullable String find(String key) {
-        var message = retrieve(key);
-        return message instanceof String ? (String) message : null;
+        return text(retrieve(key));
     }
     
     public @Nullable String find(String key, Object... arguments) {
+        return render(retrieve(key), arguments);
+    }
+    
+    public @Nullable String findNumber(String key, long argument) {
+        var message = retrieve(key);
+        return message instanceof Message ? ((Message) message).formatNumberTo(new StringBuilder(), locale, argument).toString() : text(message);
+    }
+    
+    public @Nullable String findNumber(String key, long first, long second) {
+        var message = retrieve(key);
+        return message instanceof Message ? ((Message) message).formatNumberTo(new StringBuilder(), locale, first, second).toString() : text(message);
+    }
+    
+    public @Nullable String findNumber(String key, double argument) {
+        var message = retrieve(key);
+        return message instanceof Message ? ((Message) message).formatNumberTo(new StringBuilder(), locale, argument).toString() : text(message);
+    }
+    
+    public @Nullable String findNumber(String key, double first, double second) {
+        var message = retrieve(key);
+        return message instanceof Message ? ((Message) message).formatNumberTo(new StringBuilder(), locale, first, second).toString() : text(message);
+    }
+    
+    public @Nullable String find(MessageKey key) {
+        return text(retrieve(key));
+    }
+    
+    public @Nullable String find(MessageKey key, Object... arguments) {
+        return render(retrieve(key), arguments);
+    }
+    
+
+    public boolean formatTo(StringBuilder builder, String key, Object... arguments) {
+        return render(builder, retrieve(key), arguments);
+    }
+    
+    public boolean formatTo(StringBuilder builder, MessageKey key, Object... arguments) {
+        return render(builder, retrieve(key), arguments);
+    }
+    
+    public boolean formatNumberTo(StringBuilder builder, String key, long argument) {
+        var message = retrieve(key);
+        if (message instanceof Message) {
+            ((Message) message).formatNumberTo(builder, locale, argument);
+            return true;
+        }
+        
+        return append(builder, message);
+    }
+    
+    public boolean formatNumberTo(StringBuilder builder, String key, long first, long second) {
+        var message = retrieve(key);
+        if (message instanceof Message) {
+            ((Message) message).formatNumberTo(builder, locale, first, second);
+            return true;
+        }
+        
+        return append(builder, message);
+    }
+    
+    public boolean formatNumberTo(StringBuilder builder, String key, double argument) {
         var message = retrieve(key);
-        return message instanceof String ? format((String) message, arguments) : null;
+        if (message instanceof Message) {
+            ((Message) message).formatNumberTo(builder, locale, argument);
+            return true;
+        }
+        
+        return append(builder, message);
+    }
+    
+    public boolean formatNumberTo(StringBuilder builder, String key, double first, double second) {
+        var message = retrieve(key);
+        if (message instanceof Message) {
+            ((Message) message).formatNumberTo(builder, locale, first, second);
+            return true;
+        }
+        
+        return append(builder, message);
+    }
+    
+    public boolean formatTo(Appendable out, String key, Object... arguments) throws IOException {
+        return render(out, retrieve(key), arguments);
+    }
+    
+    public boolean formatTo(Appendable out, MessageKey key, Object... arguments) throws IOException {
+        return render(out, retrieve(key), arguments);
     }
     
 
     public Optional<String[]> messages(String key) {
         var messages = retrieve(key);
-        return messages instanceof String[] ? Optional.of((String[]) messages) : EMPTY_ARRAY;
+        return messages instanceof String[] ? Optional.of(compact((String[]) messages)) : EMPTY_ARRAY;
     }
     
     public @Nullable String[] messagesIfPresent(String key) {
         var messages = retrieve(key);
-        return messages instanceof String[] ? (String[]) messages : null;
+        return messages instanceof String[] ? compact((String[]) messages) : null;
+    }
+    
+    static String[] compact(String[] messages) {
+        int length = 0;
+        for (var message : messages) {
+            if (message != null) {
+                length++;
+            }
+        }
+        
+        if (length == messages.length) {
+            return messages;
+        }
+        
+        var compacted = new String[length];
+        for (int i = 0, j = 0; i < messages.length; i++) {
+            if (messages[i] != null) {
+                compacted[j++] = messages[i];
+            }
+        }
+        
+        return compacted;
     }
     
     
     protected @Nullable Object retrieve(String key) {
         var message = messages.get(key);
         if (message == null) {
-            message = parent.retrieve(key);
+            var misses = this.misses;
+            if (misses != null && misses.contains(key)) {
+                return null;
+            }
+            
+            message = element(key);
+            if (message == null) {
+                message = parent.retrieve(key);
+            }
+            
             if (message != null) {
                 messages.put(key, message);
+                
+            } else {
+                miss(key);
+            }
+        }
+        
+        return message instanceof String ? Message.of((String) message) : message;
+    }
+    
+    protected @Nullable Object own(String key) {
+        return messages.get(key);
+    }
+    
+    protected @Nullable Object element(String key) {
+        int end = key.length() - 1;
+        if (end < 3 || key.charAt(end) != ']') {
+            return null;
+        }
+        
+        int open = key.lastIndexOf('[', end);
+        if (open <= 0 || open == end - 1 || end - open > 10) {
+            return null;
+        }
+        
+        int index = 0;
+        for (int i = open + 1; i < end; i++) {
+            var character = key.charAt(i);
+            if (character < '0' || character > '9') {
+                return null;
             }
+            index = index * 10 + (character - '0');
+        }
+        
+        var array = own(key.substring(0, open));
+        if (array instanceof String[] && index < ((String[]) array).length) {
+            var element = ((String[]) array)[index];
+            return element == null ? null : Message.of(element);
         }
         
+        return null;
+    }
+    
+    static Iterator<String> elements(Map.Entry<String, Object> entry) {
+        if (!(entry.getValue() instanceof String[])) {
+            return Collections.emptyIterator();
+        }
+        
+        var path = entry.getKey();
+        var array = (String[]) entry.getValue();
+        return IntStream.range(0, array.length).filter(i -> array[i] != null).mapToObj(i -> path + "[" + i + "]").iterator();
+    }
+    
+    void miss(String key) {
+        var misses = this.misses;
+        if (misses == null) {
+            this.misses = misses = ConcurrentHashMap.newKeySet();
+        }
+        
+        if (misses.size() < MISSES) {
+            misses.add(key);
+        }
+    }
+    
+    
+    protected @Nullable Object retrieve(MessageKey key) {
+        var slots = this.slots;
+        var index = key.index();
+        var owned = slots.keys == key.keys();
+        if (owned && index < slots.values.length()) {
+            var message = slots.values.get(index);
+            if (message != null) {
+                return message == MISSING ? null : message;
+            }
+        }
+        
+        var message = retrieve(key.name());
+        if (!owned && slots.keys != null) {
+            return message;
+        }
+        
+        if (!owned || index >= slots.values.length()) {
+            var values = slots.values;
+            var grown = new AtomicReferenceArray<Object>(Math.max(Math.max(index + 1, key.keys().size()), values.length() * 2));
+            for (int i = 0; i < values.length(); i++) {
+                grown.set(i, values.get(i));
+            }
+            this.slots = slots = new Slots(key.keys(), grown);
+        }
+        
+        slots.values.set(index, message == null ? MISSING : message);
         return message;
     }
     
-    protected String format(String message, Object... arguments) {
-        var formatter = FORMATTER.get();
-        formatter.setLocale(locale);
-        formatter.applyPattern(message);
-        return formatter.format(arguments);
+    
+    protected @Nullable String text(@Nullable Object message) {
+        if (message instanceof String) {
+            return (String) message;
+            
+        } else if (message instanceof Message) {
+            return ((Message) message).pattern();
+            
+        } else {
+            return null;
+        }
+    }
+    
+    protected @Nullable String render(@Nullable Object message, Object... arguments) {
+        if (message instanceof String) {
+            return (String) message;
+            
+        } else if (message instanceof Message) {
+            return ((Message) message).format(locale, arguments);
+            
+        } else {
+            return null;
+        }
+    }
+    
+    protected boolean render(StringBuilder builder, @Nullable Object message, Object... arguments) {
+        if (message instanceof String) {
+            builder.append((String) message);
+            return true;
+            
+        } else if (message instanceof Message) {
+            ((Message) message).formatTo(builder, locale, arguments);
+            return true;
+            
+        } else {
+            return false;
+        }
+    }
+    
+    boolean append(StringBuilder builder, @Nullable Object message) {
+        if (message instanceof String) {
+            builder.append((String) message);
+            return true;
+        }
+        
+        return false;
+    }
+    
+    protected boolean render(Appendable out, @Nullable Object message, Object... arguments) throws IOException {
+        if (message instanceof String) {
+            out.append((String) message);
+            return true;
+            
+        } else if (message instanceof Message) {
+            ((Message) message).formatTo(out, locale, arguments);
+            return true;
+            
+        } else {
+            return false;
+        }
     }
     
     
     public Set<String> keys() {
         var set = keys;
         if (set == null) {
-            synchronized (EMPTY_ARRAY) {
-                set = keys;
-                if (set == null) {
-                    set = new HashSet<>(parent.keys());
-                    for (var entry : messages.entrySet()) {
-                        if (entry.getValue() instanceof String) {
-                            set.add(entry.getKey());
-                        }
-                    }
-                    this.keys = set = Collections.unmodifiableSet(set);
-                }
-            }
+            keys = set = new Keys();
         }
         
         return set;
@@ -188,4 +436,64 @@ public class Bundle {
         return String.format("%s[locale = %s, parent locale = %s]", getClass().getName(), locale().toString(), parent.locale().toString());
     }
     
-}
\ No newline at end of file
+    
+    class Keys extends AbstractSet<String> {
+        
+        private volatile int size = -1;
+        
+        @Override
+        public boolean contains(Object key) {
+            return key instanceof String && (local((String) key) || parent.keys().contains(key));
+        }
+        
+        boolean local(String key) {
+            var value = messages.get(key);
+            return value instanceof String || value instanceof Message || element(key) != null;
+        }
+        
+        @Override
+        public Iterator<String> iterator() {
+            var local = snapshot();
+            var inherited = Iterators.filter(parent.keys().iterator(), key -> !local.contains(key));
+            
+            return Iterators.unmodifiableIterator(Iterators.concat(local.iterator(), inherited));
+        }
+        
+        Set<String> snapshot() {
+            var local = new HashSet<String>();
+            for (var entry : messages.entrySet()) {
+                if (entry.getValue() instanceof String || entry.getValue() instanceof Message) {
+                    local.add(entry.getKey());
+                }
+                elements(entry).forEachRemaining(local::add);
+            }
+            
+            return local;
+        }
+
+        @Override
+        public int size() {
+            int size = this.size;
+            if (size == -1) {
+                this.size = size = Iterators.size(iterator());
+            }
+            
+            return size;
+        }
+        
+    }
+    
+    
+    static class Slots {
+        
+        final @Nullable MessageKeys keys;
+        final AtomicReferenceArray<Object> values;
+        
+        Slots(@Nullable MessageKeys keys, AtomicReferenceArray<Object> values) {
+            this.keys = keys;
+            this.values = values;
+        }
+        
+    }
+    
+}
@@ -25,9 +25,11 @@ package com.karuslabs.lingua.franca;
 
 import com.karuslabs.lingua.franca.annotations.*;
 import com.karuslabs.lingua.franca.codec.Stringifier;
+import com.karuslabs.lingua.franca.metrics.Metrics;
 import com.karuslabs.lingua.franca.sources.*;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 import java.util.ResourceBundle.Control;
 import java.util.concurrent.*;
@@ -37,6 +39,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class BundleLoader {
     
+    private static final Control CONTROL = ResourceBundle.Control.getControl(Control.FORMAT_DEFAULT);
+    private static final Duration ABSENCE = Duration.ofMinutes(1);
     private static final BundleLoader LOADER = new BundleLoader();
     
     
@@ -45,12 +49,15 @@ public class BundleLoader {
     }
     
     
-    private static final Control CONTROL = ResourceBundle.Control.getControl(Control.FORMAT_DEFAULT);
     private static final Source[] SOURCE = new Source[] {};
 
     protected final String[] formats;
     protected final ConcurrentMap<String, Set<Source>> namespaces;
     protected final Set<Source> global;
+    protected final Control control;
+    protected final long absence;
+    private final ConcurrentMap<String, ConcurrentMap<Locale, Candidates>> candidates;
+    private final ConcurrentMap<Source, ConcurrentMap<String, Long>> absent;
 
     
     public BundleLoader() {
@@ -58,15 +65,31 @@ public class BundleLoader {
     }
     
     public BundleLoader(ConcurrentMap<String, Set<Source>> namespaces, Set<Source> global, String... formats) {
+        this(namespaces, global, CONTROL, formats);
+    }
+    
+    public BundleLoader(ConcurrentMap<String, Set<Source>> namespaces, Set<Source> global, Control control, String... formats) {
+        this(namespaces, global, control, ABSENCE, formats);
+    }
+    
+    public BundleLoader(ConcurrentMap<String, Set<Source>> namespaces, Set<Source> global, Control control, Duration absence, String... formats) {
         this.namespaces = namespaces;
         this.global = global;
+        this.control = control;
+        this.absence = absence.toNanos();
         this.formats = formats;
+        this.candidates = new ConcurrentHashMap<>();
+        this.absent = new ConcurrentHashMap<>();
     }
 
     
     public Bundle load(String name, Locale locale, Bundle parent) {
+        return create(messages(name, locale), locale, parent);
+    }
+    
+    public @Nullable ConcurrentMap<String, Object> messages(String name, Locale locale) {
         var sources = namespaces.getOrDefault(name, global);
-        var bundleName = CONTROL.toBundleName(name, locale);
+        var bundleName = control.toBundleName(name, locale);
         
         ConcurrentMap<String, Object> messages = null;
         
@@ -78,19 +101,49 @@ public class BundleLoader {
             messages = load(global, bundleName);
         }
         
+        return messages;
+    }
+    
+    public Bundle create(@Nullable ConcurrentMap<String, Object> messages, Locale locale, Bundle parent) {
         return messages == null ? Bundle.empty(locale, parent) : new Bundle(messages, locale, parent);
     }
     
     protected @Nullable ConcurrentMap<String, Object> load(Set<Source> namespace, String bundle) {
         for (var source : namespace) {
+            var index = source.index();
+            var absent = index == null && absence > 0 ? this.absent.computeIfAbsent(source, key -> new ConcurrentHashMap<>()) : null;
             for (var format : formats) {
-                try (var stream = source.load(CONTROL.toResourceName(bundle, format))) {
+                var resource = control.toResourceName(bundle, format);
+                if (index != null ? !index.contains(resource) : absent != null && absent(absent, resource)) {
+                    continue;
+                }
+                
+                var start = System.nanoTime();
+                if (source instanceof ChannelSource) {
+                    var buffer = ((ChannelSource) source).buffer(resource);
+                    if (buffer != null) {
+                        var messages = Stringifier.stringify().from(buffer, format);
+                        Metrics.metrics().load(source, format, System.nanoTime() - start);
+                        return messages;
+                        
+                    } else if (absent != null) {
+                        absent.put(resource, System.nanoTime() + absence);
+                    }
+                    continue;
+                }
+                
+                try (var stream = source.load(resource)) {
                     if (stream != null) {
-                        return Stringifier.stringify().from(stream, format);
+                        var messages = Stringifier.stringify().from(stream, format);
+                        Metrics.metrics().load(source, format, System.nanoTime() - start);
+                        return messages;
+                        
+                    } else if (absent != null) {
+                        absent.put(resource, System.nanoTime() + absence);
                     }
                     
-                } catch (IOException ignored) {
-                    return null;
+                } catch (IOException e) {
+                    Metrics.metrics().fail(source, resource, e);
                 }
             }
         }
@@ -98,8 +151,58 @@ public class BundleLoader {
         return null;
     }
 
+    static boolean absent(ConcurrentMap<String, Long> absent, String resource) {
+        var deadline = absent.get(resource);
+        if (deadline == null) {
+            return false;
+            
+        } else if (System.nanoTime() - deadline < 0) {
+            return true;
+            
+        } else {
+            absent.remove(resource, deadline);
+            return false;
+        }
+    }
+    
+    
+    public void forget() {
+        absent.clear();
+    }
+    
+    public void forget(Source source) {
+        absent.remove(source);
+    }
+    
+    public void forget(Collection<? extends Source> sources) {
+        absent.keySet().removeAll(sources);
+    }
+    
+
     public List<Locale> parents(String name, Locale locale) {
-        return CONTROL.getCandidateLocales(name, locale);
+        return memoised(name, locale).parents;
+    }
+    
+    public List<Locale> chain(String name, Locale locale) {
+        return memoised(name, locale).chain;
+    }
+    
+    Candidates memoised(String name, Locale locale) {
+        var locales = candidates.get(name);
+        if (locales == null) {
+            locales = candidates.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+        }
+        
+        var memoised = locales.get(locale);
+        if (memoised == null) {
+            memoised = locales.computeIfAbsent(locale, key -> new Candidates(candidates(name, locale)));
+        }
+        
+        return memoised;
+    }
+    
+    protected List<Locale> candidates(String name, Locale locale) {
+        return control.getCandidateLocales(name, locale);
     }
     
     
@@ -181,6 +284,11 @@ public class BundleLoader {
         return global.addAll(sources);
     }
     
+    
+    public Set<String> namespaces() {
+        return Collections.unmodifiableSet(namespaces.keySet());
+    }
+    
         
     public boolean contains(String name) {
         return namespaces.containsKey(name);
@@ -214,10 +322,16 @@ public class BundleLoader {
 
     
     public @Nullable Set<Source> remove(String name) {
-        return namespaces.remove(name);
+        var sources = namespaces.remove(name);
+        if (sources != null) {
+            forget(sources);
+        }
+        
+        return sources;
     }
     
     public boolean remove(String name, Source source) {
+        forget(source);
         var set = namespaces.get(name);
         return set != null && set.remove(source);
     }
@@ -227,11 +341,13 @@ public class BundleLoader {
     }
     
     public boolean remove(String name, Collection<? extends Source> sources) {
+        forget(sources);
         var set = namespaces.get(name);
         return set != null && set.removeAll(sources);
     }
         
     public boolean remove(Source source) {
+        forget(source);
         return global.remove(source);
     }
     
@@ -240,7 +356,29 @@ public class BundleLoader {
     }
     
     public boolean remove(Collection<? extends Source> sources) {
+        forget(sources);
         return global.removeAll(sources);
     }
     
+    
+    static final class Candidates {
+        
+        final List<Locale> parents;
+        final List<Locale> chain;
+        
+        
+        Candidates(List<Locale> candidates) {
+            var locales = candidates.toArray(new Locale[0]);
+            parents = List.of(locales);
+            
+            for (int i = 0, j = locales.length - 1; i < j; i++, j--) {
+                var locale = locales[i];
+                locales[i] = locales[j];
+                locales[j] = locale;
+            }
+            chain = List.of(locales);
+        }
+        
+    }
+    
 }
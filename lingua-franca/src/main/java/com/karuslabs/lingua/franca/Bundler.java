@@ -24,43 +24,120 @@
 package com.karuslabs.lingua.franca;
 
 import com.google.common.cache.*;
-import com.google.common.collect.Lists;
 
+import com.karuslabs.lingua.franca.metrics.Metrics;
 import com.karuslabs.lingua.franca.spi.BundleProvider;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
-import static java.util.concurrent.TimeUnit.MINUTES;
 import com.karuslabs.lingua.franca.annotations.Namespace;
 
 
 public class Bundler {    
     
-    private static final Bundler BUNDLER = new Bundler(CacheBuilder.newBuilder().expireAfterAccess(10, MINUTES).maximumSize(512).build(), BundleLoader.loader());
     private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_DEFAULT);
+    static final long TOUCH = 1_000_000_000L;
+    private static final Bundler BUNDLER = builder().build();
     
     public static Bundler bundler() {
         return BUNDLER;
     }
     
-    
-    static final ThreadLocal<ServiceLoader<BundleProvider>> PROVIDERS = new ThreadLocal<>() {
-        @Override
-        protected ServiceLoader<BundleProvider> initialValue() {
-            return ServiceLoader.load(BundleProvider.class);
-        }
-    };
+    public static Builder builder() {
+        return new Builder();
+    }
     
     
+    private final Registry registry;
     private final Cache<String, Bundle> cache;
     private final BundleLoader loader;
+    private final UnaryOperator<Bundle> storage;
+    private final Executor executor;
+    private final Providers providers;
+    private final Map<String, Long> ttls;
+    private final long touch;
+    private final ConcurrentMap<String, Long> deadlines = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Map.Entry<String, Locale>> published = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Flight> loading = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Flight> reloading = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MessageKeys> keys = new ConcurrentHashMap<>();
     
     
     protected Bundler(Cache<String, Bundle> cache, BundleLoader loader) {
+        this(cache, loader, UnaryOperator.identity());
+    }
+    
+    protected Bundler(Cache<String, Bundle> cache, BundleLoader loader, UnaryOperator<Bundle> storage) {
+        this(cache, loader, storage, ForkJoinPool.commonPool());
+    }
+    
+    protected Bundler(Cache<String, Bundle> cache, BundleLoader loader, UnaryOperator<Bundle> storage, Executor executor) {
+        this.registry = new Registry(false);
         this.cache = cache;
         this.loader = loader;
+        this.storage = storage;
+        this.executor = executor;
+        this.providers = Providers.providers();
+        this.ttls = Map.of();
+        this.touch = TOUCH;
+    }
+    
+    protected Bundler(CacheBuilder<Object, Object> builder, BundleLoader loader, UnaryOperator<Bundle> storage) {
+        this(builder, loader, storage, ForkJoinPool.commonPool());
+    }
+    
+    protected Bundler(CacheBuilder<Object, Object> builder, BundleLoader loader, UnaryOperator<Bundle> storage, Executor executor) {
+        this.registry = new Registry(true);
+        this.cache = builder.removalListener(this::evict).build();
+        this.loader = loader;
+        this.storage = storage;
+        this.executor = executor;
+        this.providers = Providers.providers();
+        this.ttls = Map.of();
+        this.touch = TOUCH;
+    }
+    
+    protected Bundler(Builder builder) {
+        if (builder.cache != null) {
+            this.registry = new Registry(false);
+            this.cache = builder.cache;
+            
+        } else {
+            this.registry = new Registry(true, builder.soft);
+            this.cache = builder.build(this::evict);
+        }
+        
+        this.loader = builder.loader;
+        this.storage = builder.storage;
+        this.executor = builder.executor;
+        this.providers = builder.providers == null ? Providers.providers() : new Providers(builder.providers);
+        
+        var ttls = new HashMap<String, Long>();
+        for (var entry : builder.ttls.entrySet()) {
+            ttls.put(entry.getKey(), entry.getValue().toNanos());
+        }
+        this.ttls = Map.copyOf(ttls);
+        this.touch = builder.access == null ? TOUCH : Math.min(TOUCH, builder.access.toNanos() / 2);
+    }
+    
+    
+    void evict(RemovalNotification<String, Bundle> notification) {
+        var bundleName = notification.getKey();
+        if (notification.getCause() != RemovalCause.REPLACED && !cache.asMap().containsKey(bundleName)) {
+            registry.remove(bundleName, notification.getValue());
+            deadlines.remove(bundleName);
+            published.remove(bundleName);
+        }
+        
+        if (notification.wasEvicted()) {
+            Metrics.metrics().evict(notification.getKey());
+        }
     }
     
     
@@ -130,38 +207,271 @@ public class Bundler {
     
     
     protected Bundle load(String name, Locale locale, BundleLoader loader, boolean reload) {
+        var bundle = cached(name, locale, reload);
+        if (bundle != null) {
+            return bundle;
+        }
+        
         var bundleName = CONTROL.toBundleName(name, locale);
-        Bundle bundle = null;
+        var flights = reload ? reloading : loading;
+        var future = new Flight();
+        Flight existing;
+        while (true) {
+            existing = flights.putIfAbsent(bundleName, future);
+            if (existing == null) {
+                complete(future, name, locale, bundleName, loader, reload);
+                existing = future;
+                break;
+                
+            } else if (!reload || !existing.started) {
+                break;
+                
+            } else if (flights.replace(bundleName, existing, future)) {
+                existing.handle((result, exception) -> null).join();
+                complete(future, name, locale, bundleName, loader, reload);
+                existing = future;
+                break;
+            }
+        }
         
-        if (!reload) {
-            bundle = cache.getIfPresent(bundleName);
+        try {
+            return existing.join();
+            
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+                
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+                
+            } else {
+                throw e;
+            }
+        }
+    }
+    
+    
+    public CompletableFuture<Bundle> reloadAsync(Object annotated, Locale locale) {
+        return reloadAsync(annotated, locale, loader);
+    }
+    
+    public CompletableFuture<Bundle> reloadAsync(Object annotated, Locale locale, BundleLoader loader) {
+        return reloadAsync(annotated.getClass(), locale, loader);
+    }
+    
+    
+    public CompletableFuture<Bundle> reloadAsync(Class<?> annotated, Locale locale) {
+        return reloadAsync(annotated, locale, loader);
+    }
+    
+    public CompletableFuture<Bundle> reloadAsync(Class<?> annotated, Locale locale, BundleLoader loader) {
+        return loadAsync(annotated, locale, loader, true);
+    }
+    
+    
+    public CompletableFuture<Bundle> reloadAsync(String name, Locale locale) {
+        return reloadAsync(name, locale, loader);
+    }
+    
+    public CompletableFuture<Bundle> reloadAsync(String name, Locale locale, BundleLoader loader) {
+        return loadAsync(name, locale, loader, true);
+    }
+    
+    
+    public CompletableFuture<Bundle> loadAsync(Object annotated, Locale locale) {
+        return loadAsync(annotated, locale, loader);
+    }
+    
+    public CompletableFuture<Bundle> loadAsync(Object annotated, Locale locale, BundleLoader loader) {
+        return loadAsync(annotated.getClass(), locale, loader);
+    }
+    
+    
+    public CompletableFuture<Bundle> loadAsync(Class<?> annotated, Locale locale) {
+        return loadAsync(annotated, locale, loader);
+    }
+    
+    public CompletableFuture<Bundle> loadAsync(Class<?> annotated, Locale locale, BundleLoader loader) {
+        return loadAsync(annotated, locale, loader, false);
+    }
+    
+    
+    protected CompletableFuture<Bundle> loadAsync(Class<?> annotated, Locale locale, BundleLoader loader, boolean reload) {
+        var namespace = annotated.getAnnotation(Namespace.class);
+        if (namespace != null) {
+            return loadAsync(namespace.value(), locale, loader, reload);
+            
+        } else {
+            return CompletableFuture.completedFuture(Bundle.EMPTY);
+        }
+    }
+    
+    
+    public CompletableFuture<Bundle> loadAsync(String name, Locale locale) {
+        return loadAsync(name, locale, loader);
+    }
+    
+    public CompletableFuture<Bundle> loadAsync(String name, Locale locale, BundleLoader loader) {
+        return loadAsync(name, locale, loader, false);
+    }
+    
+    
+    protected CompletableFuture<Bundle> loadAsync(String name, Locale locale, BundleLoader loader, boolean reload) {
+        var bundle = cached(name, locale, reload);
+        if (bundle != null) {
+            return CompletableFuture.completedFuture(bundle);
         }
         
-        if (bundle == null) {
-            bundle = loadFromServices(name, locale);
+        var bundleName = CONTROL.toBundleName(name, locale);
+        var flights = reload ? reloading : loading;
+        var future = new Flight();
+        while (true) {
+            var existing = flights.putIfAbsent(bundleName, future);
+            if (existing == null) {
+                submit(future, name, locale, bundleName, loader, reload);
+                return future.copy();
+                
+            } else if (!reload || !existing.started) {
+                return existing.copy();
+                
+            } else if (flights.replace(bundleName, existing, future)) {
+                existing.whenComplete((result, exception) -> submit(future, name, locale, bundleName, loader, reload));
+                return future.copy();
+            }
+        }
+    }
+    
+    void submit(Flight future, String name, Locale locale, String bundleName, BundleLoader loader, boolean reload) {
+        try {
+            executor.execute(() -> complete(future, name, locale, bundleName, loader, reload));
+            
+        } catch (RejectedExecutionException e) {
+            (reload ? reloading : loading).remove(bundleName, future);
+            future.completeExceptionally(e);
+        }
+    }
+    
+    
+    protected @Nullable Bundle cached(String name, Locale locale, boolean reload) {
+        if (reload || expired(name, locale)) {
+            return null;
         }
         
-        if (bundle == null) {
-            bundle = loadFromBundleLoader(name, Lists.reverse(loader.parents(name, locale)), loader, reload);
+        var entry = registry.entry(name, locale);
+        var bundle = entry == null ? null : entry.bundle();
+        if (bundle != null) {
+            var now = System.nanoTime();
+            if (now - entry.touched > touch) {
+                entry.touched = now;
+                cache.getIfPresent(entry.bundleName);
+            }
+            
+            Metrics.metrics().hit(name, locale);
+            return bundle;
+        }
+        
+        var bundleName = CONTROL.toBundleName(name, locale);
+        bundle = cache.getIfPresent(bundleName);
+        if (bundle != null) {
+            Metrics.metrics().hit(name, locale);
+            registry.put(name, locale, bundleName, bundle);
+            
+        } else {
+            Metrics.metrics().miss(name, locale);
         }
         
         return bundle;
     }
     
-    
-    protected @Nullable Bundle loadFromServices(String name, Locale locale) {
+    void complete(Flight future, String name, Locale locale, String bundleName, BundleLoader loader, boolean reload) {
+        future.started = true;
         try {
-            var providers = PROVIDERS.get().iterator();
-            while (providers.hasNext()) {
-                var bundle = providers.next().get(name, locale);
-                if (bundle != null) {
-                    cache(name, locale, bundle);
-                    return bundle;
-                }
+            var start = System.nanoTime();
+            var bundle = reload ? null : cache.getIfPresent(bundleName);
+            if (bundle == null) {
+                bundle = loadFromServices(name, locale);
+            }
+            
+            if (bundle == null) {
+                bundle = loadFromBundleLoader(name, loader.chain(name, locale), loader, reload);
+            }
+            
+            Metrics.metrics().load(bundleName, System.nanoTime() - start);
+            future.complete(bundle);
+            
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            
+        } finally {
+            (reload ? reloading : loading).remove(bundleName, future);
+        }
+    }
+    
+    
+    public Map<String, Duration> preload(Collection<Locale> locales) {
+        return preload(loader.namespaces(), locales);
+    }
+    
+    public Map<String, Duration> preload(Collection<String> namespaces, Collection<Locale> locales) {
+        return preload(namespaces, locales, executor);
+    }
+    
+    public Map<String, Duration> preload(Collection<String> namespaces, Collection<Locale> locales, Executor executor) {
+        var timings = new ConcurrentHashMap<String, Duration>();
+        var futures = new CompletableFuture<?>[namespaces.size()];
+        
+        int i = 0;
+        for (var namespace : namespaces) {
+            var start = System.nanoTime();
+            CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+            for (var wave : waves(namespace, locales)) {
+                future = future.thenCompose(ignored -> CompletableFuture.allOf(
+                    wave.stream().map(locale -> CompletableFuture.runAsync(() -> load(namespace, locale), executor)).toArray(CompletableFuture[]::new)
+                ));
             }
             
-        } catch (ServiceConfigurationError ignored) {
-            // Ignore error
+            futures[i++] = future.thenRun(() -> timings.put(namespace, Duration.ofNanos(System.nanoTime() - start)));
+        }
+        
+        CompletableFuture.allOf(futures).join();
+        
+        var preloaded = new LinkedHashMap<String, Duration>();
+        for (var namespace : namespaces) {
+            preloaded.put(namespace, timings.get(namespace));
+        }
+        
+        return preloaded;
+    }
+    
+    Collection<List<Locale>> waves(String namespace, Collection<Locale> locales) {
+        var waves = new TreeMap<Integer, List<Locale>>();
+        var visited = new HashSet<Locale>();
+        
+        for (var locale : locales) {
+            for (var candidate : loader.parents(namespace, locale)) {
+                if (visited.add(candidate)) {
+                    waves.computeIfAbsent(loader.parents(namespace, candidate).size(), size -> new ArrayList<>()).add(candidate);
+                }
+            }
+        }
+        
+        return waves.values();
+    }
+    
+    
+    protected @Nullable Bundle loadFromServices(String name, Locale locale) {
+        var providers = this.providers.get(name);
+        if (providers.isEmpty()) {
+            return null;
+        }
+        
+        for (var provider : providers) {
+            var bundle = provider.get(name, locale);
+            if (bundle != null) {
+                cache(name, locale, bundle);
+                return bundle;
+            }
         }
         
         return null;
@@ -169,7 +479,7 @@ public class Bundler {
     
     protected void cache(String name, Locale locale, Bundle bundle) {
         do {
-            cache.put(CONTROL.toBundleName(name, locale), bundle);
+            put(name, locale, CONTROL.toBundleName(name, locale), bundle);
             bundle = bundle.parent();
             locale = bundle.locale();
         } while (bundle != Bundle.EMPTY);
@@ -177,36 +487,428 @@ public class Bundler {
     
     
     protected Bundle loadFromBundleLoader(String name, List<Locale> locales, BundleLoader loader, boolean reload) {
-        var current = Bundle.EMPTY;
-        for (var locale : locales) {
-            var bundleName = CONTROL.toBundleName(name, locale);
+        var levels = new HashMap<Locale, Bundle>();
+        var bundle = chain(name, locales, loader, levels, Set.of(), reload);
+        publish(name, levels);
+        
+        return bundle;
+    }
+    
+    Bundle chain(String name, List<Locale> locales, BundleLoader loader, Map<Locale, Bundle> levels, Set<Locale> changed, boolean reload) {
+        var children = new Bundle[locales.size()];
+        var missing = 0;
+        for (int i = 0; i < children.length; i++) {
+            var locale = locales.get(i);
+            reload |= changed.contains(locale);
             
-            Bundle child = null;
-            if (!reload) {
-                child = cache.getIfPresent(bundleName);
+            var child = levels.get(locale);
+            if (child == null && !reload) {
+                var bundleName = CONTROL.toBundleName(name, locale);
+                if (!expired(name, bundleName)) {
+                    child = cache.getIfPresent(bundleName);
+                }
             }
             
+            children[i] = child;
+            if (child == null) {
+                missing++;
+            }
+        }
+        
+        var reads = new Read[children.length];
+        if (missing > 1) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == null) {
+                    reads[i] = new Read(loader, name, locales.get(i));
+                    try {
+                        executor.execute(reads[i]);
+                        
+                    } catch (RejectedExecutionException ignored) {
+                        // Read on the calling thread when linking instead
+                    }
+                }
+            }
+        }
+        
+        var current = Bundle.EMPTY;
+        for (int i = 0; i < children.length; i++) {
+            var locale = locales.get(i);
+            var child = children[i];
             if (child == null) {
-                child = loader.load(name, locale, current);
+                var messages = reads[i] == null ? loader.messages(name, locale) : reads[i].get();
+                child = storage.apply(loader.create(messages, locale, current));
+                levels.put(locale, child == Bundle.EMPTY ? current : child);
             }
             
             if (child != Bundle.EMPTY) {
                 current = child;
             }
-            
-            cache.put(bundleName, current);
         }
         
         return current;
     }
     
     
+    static class Flight extends CompletableFuture<Bundle> {
+        
+        volatile boolean started;
+        
+    }
+    
+    static class Read implements Runnable {
+        
+        private final BundleLoader loader;
+        private final String name;
+        private final Locale locale;
+        private final AtomicBoolean claimed;
+        private final CompletableFuture<@Nullable ConcurrentMap<String, Object>> messages;
+        
+        
+        Read(BundleLoader loader, String name, Locale locale) {
+            this.loader = loader;
+            this.name = name;
+            this.locale = locale;
+            this.claimed = new AtomicBoolean();
+            this.messages = new CompletableFuture<>();
+        }
+        
+        
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    messages.complete(loader.messages(name, locale));
+                    
+                } catch (Throwable e) {
+                    messages.completeExceptionally(e);
+                }
+            }
+        }
+        
+        @Nullable ConcurrentMap<String, Object> get() {
+            run();
+            try {
+                return messages.join();
+                
+            } catch (CompletionException e) {
+                var cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                    
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                    
+                } else {
+                    throw e;
+                }
+            }
+        }
+        
+    }
+    
+    
+    public CompletableFuture<Void> reloadAll() {
+        return reloadAll(loader);
+    }
+    
+    public CompletableFuture<Void> reloadAll(BundleLoader loader) {
+        var namespaces = new HashMap<String, List<Locale>>();
+        for (var entry : published.entrySet()) {
+            if (cache.asMap().containsKey(entry.getKey())) {
+                var request = entry.getValue();
+                namespaces.computeIfAbsent(request.getKey(), name -> new ArrayList<>()).add(request.getValue());
+            }
+        }
+        
+        var futures = new CompletableFuture<?>[namespaces.size()];
+        int i = 0;
+        for (var entry : namespaces.entrySet()) {
+            futures[i++] = CompletableFuture.runAsync(() -> reloadAll(entry.getKey(), entry.getValue(), loader), executor);
+        }
+        
+        return CompletableFuture.allOf(futures);
+    }
+    
+    void reloadAll(String name, List<Locale> locales, BundleLoader loader) {
+        locales.sort(Comparator.comparingInt((Locale locale) -> loader.parents(name, locale).size()).reversed());
+        
+        var levels = new HashMap<Locale, Bundle>();
+        for (var locale : locales) {
+            if (!levels.containsKey(locale) && loadFromServices(name, locale) == null) {
+                chain(name, loader.chain(name, locale), loader, levels, Set.of(), true);
+            }
+        }
+        
+        publish(name, levels);
+    }
+    
+    
+    public CompletableFuture<Void> refresh(Collection<String> bundleNames) {
+        return refresh(bundleNames, loader);
+    }
+    
+    public CompletableFuture<Void> refresh(Collection<String> bundleNames, BundleLoader loader) {
+        var changed = new HashMap<String, Set<Locale>>();
+        for (var bundleName : bundleNames) {
+            var request = published.get(bundleName);
+            if (request != null) {
+                changed.computeIfAbsent(request.getKey(), name -> new HashSet<>()).add(request.getValue());
+            }
+        }
+        
+        var futures = new CompletableFuture<?>[changed.size()];
+        int i = 0;
+        for (var entry : changed.entrySet()) {
+            futures[i++] = CompletableFuture.runAsync(() -> refresh(entry.getKey(), entry.getValue(), loader), executor);
+        }
+        
+        return CompletableFuture.allOf(futures);
+    }
+    
+    void refresh(String name, Set<Locale> changed, BundleLoader loader) {
+        var affected = new ArrayList<Locale>();
+        for (var entry : published.entrySet()) {
+            var request = entry.getValue();
+            if (request.getKey().equals(name) && cache.asMap().containsKey(entry.getKey()) 
+             && !Collections.disjoint(changed, loader.parents(name, request.getValue()))) {
+                affected.add(request.getValue());
+            }
+        }
+        
+        affected.sort(Comparator.comparingInt((Locale locale) -> loader.parents(name, locale).size()).reversed());
+        
+        var levels = new HashMap<Locale, Bundle>();
+        for (var locale : affected) {
+            if (!levels.containsKey(locale)) {
+                chain(name, loader.chain(name, locale), loader, levels, changed, false);
+            }
+        }
+        
+        publish(name, levels);
+    }
+    
+    
+    protected void put(String name, Locale locale, String bundleName, Bundle bundle) {
+        cache.put(bundleName, bundle);
+        
+        var ttl = ttls.get(name);
+        if (ttl != null) {
+            deadlines.put(bundleName, System.nanoTime() + ttl);
+        }
+        
+        published.put(bundleName, Map.entry(name, locale));
+        registry.put(name, locale, bundleName, bundle);
+        settle(bundleName, bundle);
+    }
+    
+    protected void publish(String name, Map<Locale, Bundle> levels) {
+        var names = new HashMap<Locale, String>();
+        var ttl = ttls.get(name);
+        for (var entry : levels.entrySet()) {
+            var bundleName = CONTROL.toBundleName(name, entry.getKey());
+            names.put(entry.getKey(), bundleName);
+            cache.put(bundleName, entry.getValue());
+            
+            published.put(bundleName, Map.entry(name, entry.getKey()));
+            if (ttl != null) {
+                deadlines.put(bundleName, System.nanoTime() + ttl);
+            }
+        }
+        
+        registry.put(name, levels, names);
+        for (var entry : levels.entrySet()) {
+            settle(names.get(entry.getKey()), entry.getValue());
+        }
+    }
+    
+    void settle(String bundleName, Bundle bundle) {
+        var cached = cache.asMap().get(bundleName);
+        if (cached == bundle) {
+            return;
+        }
+        
+        registry.remove(bundleName, bundle);
+        if (cached == null) {
+            deadlines.remove(bundleName);
+            published.remove(bundleName);
+        }
+    }
+    
+    
+    boolean expired(String name, Locale locale) {
+        return !ttls.isEmpty() && ttls.containsKey(name) && expired(name, CONTROL.toBundleName(name, locale));
+    }
+    
+    boolean expired(String name, String bundleName) {
+        if (ttls.isEmpty() || !ttls.containsKey(name)) {
+            return false;
+        }
+        
+        var deadline = deadlines.get(bundleName);
+        if (deadline == null || System.nanoTime() - deadline < 0) {
+            return false;
+        }
+        
+        deadlines.remove(bundleName, deadline);
+        registry.remove(bundleName);
+        cache.invalidate(bundleName);
+        return true;
+    }
+    
+    
+    public MessageKey key(String name, String key) {
+        var keys = this.keys.get(name);
+        if (keys == null) {
+            keys = this.keys.computeIfAbsent(name, k -> new MessageKeys());
+        }
+        
+        return keys.of(key);
+    }
+    
+    
     public BundleLoader loader() {
         return loader;
     }
     
+    public Executor executor() {
+        return executor;
+    }
+
+    
     protected Cache<String, Bundle> cache() {
         return cache;
     }
     
+    Registry registry() {
+        return registry;
+    }
+    
+    long touch() {
+        return touch;
+    }
+    
+    
+    public static class Builder {
+        
+        static final int DEFAULT_SIZE = 512;
+        static final Duration DEFAULT_ACCESS = Duration.ofMinutes(10);
+        
+        
+        public static int weigh(String bundleName, Bundle bundle) {
+            if (bundle instanceof FrozenBundle) {
+                return Math.max(1, ((FrozenBundle) bundle).size());
+                
+            } else {
+                return Math.max(1, bundle.messages.size());
+            }
+        }
+        
+        
+        BundleLoader loader = BundleLoader.loader();
+        UnaryOperator<Bundle> storage = UnaryOperator.identity();
+        Executor executor = ForkJoinPool.commonPool();
+        Map<String, Duration> ttls = new HashMap<>();
+        @Nullable Iterable<? extends BundleProvider> providers;
+        @Nullable Cache<String, Bundle> cache;
+        long size = -1;
+        long weight = -1;
+        Weigher<String, Bundle> weigher = Builder::weigh;
+        @Nullable Duration access = DEFAULT_ACCESS;
+        boolean accessed;
+        boolean soft;
+        
+        
+        Builder() {}
+        
+        
+        public Builder loader(BundleLoader loader) {
+            this.loader = loader;
+            return this;
+        }
+        
+        public Builder storage(UnaryOperator<Bundle> storage) {
+            this.storage = storage;
+            return this;
+        }
+        
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+        
+        
+        public Builder maximumSize(long size) {
+            this.size = size;
+            return this;
+        }
+        
+        public Builder maximumWeight(long weight) {
+            this.weight = weight;
+            return this;
+        }
+        
+        public Builder weigher(Weigher<String, Bundle> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+        
+        public Builder expireAfterAccess(@Nullable Duration duration) {
+            this.access = duration;
+            this.accessed = true;
+            return this;
+        }
+        
+        public Builder expireAfterWrite(String namespace, Duration duration) {
+            ttls.put(namespace, duration);
+            return this;
+        }
+        
+        public Builder softValues() {
+            soft = true;
+            return this;
+        }
+        
+        public Builder providers(Iterable<? extends BundleProvider> providers) {
+            this.providers = providers;
+            return this;
+        }
+        
+        public Builder cache(Cache<String, Bundle> cache) {
+            this.cache = cache;
+            return this;
+        }
+        
+        
+        Cache<String, Bundle> build(RemovalListener<String, Bundle> listener) {
+            if (size >= 0 && weight >= 0) {
+                throw new IllegalStateException("Maximum size and maximum weight cannot both be specified");
+            }
+            
+            var builder = CacheBuilder.newBuilder();
+            if (access != null) {
+                builder.expireAfterAccess(access);
+            }
+            
+            if (soft) {
+                builder.softValues();
+            }
+            
+            if (weight >= 0) {
+                return builder.maximumWeight(weight).weigher(weigher).removalListener(listener).build();
+                
+            } else {
+                return builder.maximumSize(size >= 0 ? size : DEFAULT_SIZE).removalListener(listener).build();
+            }
+        }
+        
+        public Bundler build() {
+            if (cache != null && (size >= 0 || weight >= 0 || soft || accessed)) {
+                throw new IllegalStateException("Eviction policies cannot be specified with a custom cache");
+            }
+            
+            return new Bundler(this);
+        }
+        
+    }
+    
 }
@@ -0,0 +1,226 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.charset.StandardCharsets.*;
+
+
+public class CompactBundle extends FrozenBundle {
+    
+    static final byte NONE = 0;
+    static final byte CONSTANT = 1;
+    static final byte PARAMETERISED = 2;
+    static final byte ARRAY = 3;
+    
+    
+    public static Bundle compact(Bundle bundle) {
+        return compact(bundle, false);
+    }
+    
+    public static Bundle compact(Bundle bundle, boolean cache) {
+        if (bundle instanceof CompactBundle || bundle instanceof EmptyBundle) {
+            return bundle;
+        }
+        
+        var parent = compact(bundle.parent(), cache);
+        return new CompactBundle(bundle.locale(), parent, own(bundle), cache);
+    }
+    
+    static Map<String, Object> own(Bundle bundle) {
+        var own = new HashMap<String, Object>();
+        if (bundle instanceof FrozenBundle) {
+            ((FrozenBundle) bundle).copy(own);
+            
+        } else {
+            for (var entry : bundle.messages.entrySet()) {
+                if (!same(entry.getValue(), inherited(bundle, entry.getKey()))) {
+                    own.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        
+        return own;
+    }
+    
+    static @Nullable Object inherited(Bundle bundle, String key) {
+        for (var parent = bundle.parent(); parent != Bundle.EMPTY && !(parent instanceof EmptyBundle); parent = parent.parent()) {
+            var value = parent.own(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        
+        return null;
+    }
+    
+    static boolean same(Object value, @Nullable Object inherited) {
+        if (value == inherited) {
+            return true;
+            
+        } else if (inherited == null || value instanceof String[] || inherited instanceof String[]) {
+            return false;
+            
+        } else {
+            // Strings and Messages that share a pattern resolve to the same text
+            return value.toString().equals(inherited.toString());
+        }
+    }
+    
+    
+    private final byte[] arena;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final byte[] kinds;
+    private final @Nullable Object[] objects;
+    private final @Nullable AtomicReferenceArray<Object> cache;
+    
+    
+    protected CompactBundle(Bundle bundle, Bundle parent, boolean cache) {
+        this(bundle.locale(), parent, own(bundle), cache);
+    }
+    
+    CompactBundle(Locale locale, Bundle parent, Map<String, Object> messages, boolean cache) {
+        super(locale, parent, messages, false);
+        
+        offsets = new int[keys.length];
+        lengths = new int[keys.length];
+        kinds = new byte[keys.length];
+        
+        var stream = new ByteArrayOutputStream();
+        Object[] objects = null;
+        
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            
+            var value = messages.get(keys[i]);
+            if (value instanceof String) {
+                value = Message.of((String) value);
+            }
+            
+            if (value instanceof String) {
+                var text = (String) value;
+                var latin = latin(text);
+                var bytes = text.getBytes(latin ? ISO_8859_1 : UTF_8);
+                
+                offsets[i] = stream.size();
+                lengths[i] = latin ? bytes.length : -bytes.length;
+                kinds[i] = CONSTANT;
+                stream.writeBytes(bytes);
+                
+            } else if (value != null) {
+                if (objects == null) {
+                    objects = new Object[keys.length];
+                }
+                objects[i] = value;
+                kinds[i] = value instanceof Message ? PARAMETERISED : ARRAY;
+            }
+        }
+        
+        this.arena = stream.toByteArray();
+        this.objects = objects;
+        this.cache = cache ? new AtomicReferenceArray<>(keys.length) : null;
+    }
+    
+    static boolean latin(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    @Override
+    protected @Nullable Object retrieve(String key) {
+        var slot = slot(key);
+        if (slot != -1) {
+            return value(slot);
+        }
+        
+        var element = element(key);
+        return element == null ? parent.retrieve(key) : element;
+    }
+    
+    @Override
+    protected @Nullable Object value(int slot) {
+        switch (kinds[slot]) {
+            case CONSTANT:
+                break;
+                
+            case PARAMETERISED: case ARRAY:
+                return objects[slot];
+                
+            default:
+                return null;
+        }
+        
+        if (cache != null) {
+            var value = cache.get(slot);
+            if (value == null) {
+                cache.set(slot, value = decode(slot));
+            }
+            return value;
+            
+        } else {
+            return decode(slot);
+        }
+    }
+    
+    String decode(int slot) {
+        var length = lengths[slot];
+        return length >= 0 ? new String(arena, offsets[slot], length, ISO_8859_1) : new String(arena, offsets[slot], -length, UTF_8);
+    }
+    
+    @Override
+    void copy(Map<String, Object> merged) {
+        if (parent instanceof FrozenBundle) {
+            ((FrozenBundle) parent).copy(merged);
+            
+        } else {
+            merge(parent, merged);
+        }
+        super.copy(merged);
+    }
+    
+    @Override
+    protected boolean text(int slot) {
+        return kinds[slot] == CONSTANT || kinds[slot] == PARAMETERISED;
+    }
+    
+    
+    public int bytes() {
+        return arena.length;
+    }
+    
+}
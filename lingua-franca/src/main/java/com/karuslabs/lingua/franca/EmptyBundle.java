@@ -76,6 +76,11 @@ public class EmptyBundle extends Bundle {
         return null;
     }
     
+    @Override
+    protected @Nullable Object retrieve(MessageKey key) {
+        return null;
+    }
+    
     @Override
     public Set<String> keys() {
         return Collections.emptySet();
@@ -0,0 +1,180 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+
+public class FrozenBundle extends Bundle {
+    
+    private static final ConcurrentMap<String, Object> EMPTY = new ConcurrentHashMap<>(0);
+    
+    
+    public static Bundle freeze(Bundle bundle) {
+        if (bundle instanceof FrozenBundle || bundle instanceof EmptyBundle) {
+            return bundle;
+        }
+        
+        return new FrozenBundle(bundle, freeze(bundle.parent()));
+    }
+    
+    
+    protected final String[] keys;
+    private final @Nullable Object[] values;
+    private final int mask;
+    private final int size;
+    private volatile @Nullable Set<String> view;
+    
+    
+    protected FrozenBundle(Bundle bundle, Bundle parent) {
+        this(bundle.locale(), parent, merge(bundle, parent), true);
+    }
+    
+    FrozenBundle(Locale locale, Bundle parent, Map<String, Object> merged, boolean values) {
+        super(EMPTY, locale, parent);
+        
+        int capacity = Integer.highestOneBit(Math.max(2, merged.size()) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = values ? new Object[capacity] : null;
+        this.mask = capacity - 1;
+        this.size = merged.size();
+        
+        for (var entry : merged.entrySet()) {
+            int index = index(entry.getKey());
+            while (keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            
+            keys[index] = entry.getKey();
+            if (values) {
+                var value = entry.getValue();
+                this.values[index] = value instanceof String ? Message.of((String) value) : value;
+            }
+        }
+    }
+    
+    static Map<String, Object> merge(Bundle bundle, Bundle parent) {
+        var merged = new HashMap<String, Object>();
+        if (parent instanceof FrozenBundle) {
+            ((FrozenBundle) parent).copy(merged);
+            
+        } else {
+            merge(parent, merged);
+        }
+        merged.putAll(bundle.messages);
+        
+        return merged;
+    }
+    
+    static void merge(Bundle bundle, Map<String, Object> merged) {
+        if (bundle != Bundle.EMPTY && !(bundle instanceof EmptyBundle)) {
+            merge(bundle.parent(), merged);
+            merged.putAll(bundle.messages);
+        }
+    }
+    
+    void copy(Map<String, Object> merged) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                merged.put(keys[i], value(i));
+            }
+        }
+    }
+    
+    int index(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+    
+    protected int slot(String key) {
+        for (int index = index(key); ; index = (index + 1) & mask) {
+            var current = keys[index];
+            if (current == null) {
+                return -1;
+                
+            } else if (current.equals(key)) {
+                return index;
+            }
+        }
+    }
+    
+    protected Object value(int slot) {
+        return values[slot];
+    }
+    
+    protected boolean text(int slot) {
+        return values[slot] instanceof String || values[slot] instanceof Message;
+    }
+    
+    
+    @Override
+    protected @Nullable Object retrieve(String key) {
+        var slot = slot(key);
+        if (slot != -1) {
+            return value(slot);
+        }
+        
+        var element = element(key);
+        return element == null && key.endsWith("]") ? parent.retrieve(key) : element;
+    }
+    
+    @Override
+    protected @Nullable Object own(String key) {
+        var slot = slot(key);
+        return slot == -1 ? null : value(slot);
+    }
+    
+    
+    @Override
+    public Set<String> keys() {
+        var set = view;
+        if (set == null) {
+            var keys = new HashSet<>(parent.keys());
+            for (int i = 0; i < this.keys.length; i++) {
+                if (this.keys[i] == null) {
+                    continue;
+                }
+                
+                if (text(i)) {
+                    keys.add(this.keys[i]);
+                    
+                } else {
+                    Bundle.elements(Map.entry(this.keys[i], value(i))).forEachRemaining(keys::add);
+                }
+            }
+            
+            view = set = Collections.unmodifiableSet(keys);
+        }
+        
+        return set;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+}
@@ -0,0 +1,303 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import com.karuslabs.lingua.franca.metrics.Metrics;
+
+import java.io.*;
+import java.text.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+
+public final class Message {
+
+    private static final ThreadLocal<Formats> FORMATS = new ThreadLocal<>() {
+        @Override
+        protected Formats initialValue() {
+            return new Formats();
+        }
+    };
+
+
+    public static Object of(String text) {
+        return constant(text) ? text : new Message(text);
+    }
+    
+    public static boolean constant(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            var character = text.charAt(i);
+            if (character == '{' || character == '\'') {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    
+    private final String pattern;
+    private final @Nullable String[] literals;
+    private final @Nullable int[] arguments;
+    private volatile @Nullable ConcurrentMap<Locale, MessageFormat> formats;
+
+
+    public Message(String pattern) {
+        this.pattern = pattern;
+
+        var literals = new ArrayList<String>();
+        var arguments = new ArrayList<Integer>();
+        if (parse(pattern, literals, arguments)) {
+            this.literals = literals.toArray(new String[0]);
+            this.arguments = new int[arguments.size()];
+            for (int i = 0; i < this.arguments.length; i++) {
+                this.arguments[i] = arguments.get(i);
+            }
+
+        } else {
+            this.literals = null;
+            this.arguments = null;
+        }
+    }
+
+    static boolean parse(String pattern, List<String> literals, List<Integer> arguments) {
+        var literal = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < pattern.length(); i++) {
+            var character = pattern.charAt(i);
+            if (character == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append(character);
+                    i++;
+
+                } else {
+                    quoted = !quoted;
+                }
+
+            } else if (quoted || character != '{') {
+                literal.append(character);
+
+            } else {
+                var end = pattern.indexOf('}', i);
+                var index = end == -1 ? -1 : index(pattern, i + 1, end);
+                if (index == -1) {
+                    return false;
+                }
+
+                literals.add(literal.toString());
+                arguments.add(index);
+                literal.setLength(0);
+                i = end;
+            }
+        }
+
+        literals.add(literal.toString());
+        return true;
+    }
+
+    static int index(String pattern, int start, int end) {
+        if (start == end || end - start > 4) {
+            return -1;
+        }
+        
+        int index = 0;
+        for (int i = start; i < end; i++) {
+            var character = pattern.charAt(i);
+            if (character < '0' || character > '9') {
+                return -1;
+            }
+            index = index * 10 + (character - '0');
+        }
+
+        return index;
+    }
+
+
+    public String format(Locale locale, Object... arguments) {
+        if (literals == null) {
+            Metrics.metrics().format();
+            return fallback(locale).format(arguments);
+        }
+        
+        return formatTo(new StringBuilder(pattern.length() + 16 * this.arguments.length), locale, arguments).toString();
+    }
+    
+    public StringBuilder formatTo(StringBuilder builder, Locale locale, Object... arguments) {
+        try {
+            formatTo((Appendable) builder, locale, arguments);
+            return builder;
+            
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    public <T extends Appendable> T formatTo(T out, Locale locale, Object... arguments) throws IOException {
+        Metrics.metrics().format();
+        if (literals == null) {
+            out.append(fallback(locale).format(arguments, new StringBuffer(), null));
+            return out;
+        }
+
+        out.append(literals[0]);
+        for (int i = 0; i < this.arguments.length; i++) {
+            append(out, locale, arguments, this.arguments[i]);
+            out.append(literals[i + 1]);
+        }
+
+        return out;
+    }
+
+    public StringBuilder formatNumberTo(StringBuilder builder, Locale locale, long argument) {
+        return literals == null ? formatTo(builder, locale, new Object[] {argument}) : number(builder, locale, 1, argument, 0, false);
+    }
+    
+    public StringBuilder formatNumberTo(StringBuilder builder, Locale locale, long first, long second) {
+        return literals == null ? formatTo(builder, locale, new Object[] {first, second}) : number(builder, locale, 2, first, second, false);
+    }
+    
+    public StringBuilder formatNumberTo(StringBuilder builder, Locale locale, double argument) {
+        return literals == null ? formatTo(builder, locale, new Object[] {argument}) : number(builder, locale, 1, Double.doubleToRawLongBits(argument), 0, true);
+    }
+    
+    public StringBuilder formatNumberTo(StringBuilder builder, Locale locale, double first, double second) {
+        return literals == null ? formatTo(builder, locale, new Object[] {first, second}) : number(builder, locale, 2, Double.doubleToRawLongBits(first), Double.doubleToRawLongBits(second), true);
+    }
+    
+    StringBuilder number(StringBuilder builder, Locale locale, int count, long first, long second, boolean real) {
+        Metrics.metrics().format();
+        builder.append(literals[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            var index = arguments[i];
+            if (index >= count) {
+                builder.append('{').append(index).append('}');
+                
+            } else {
+                var argument = index == 0 ? first : second;
+                var format = FORMATS.get().number(locale);
+                builder.append(real ? format.format(Double.longBitsToDouble(argument)) : format.format(argument));
+            }
+            builder.append(literals[i + 1]);
+        }
+        
+        return builder;
+    }
+
+    void append(Appendable out, Locale locale, @Nullable Object[] arguments, int index) throws IOException {
+        if (arguments == null || index >= arguments.length) {
+            out.append('{').append(String.valueOf(index)).append('}');
+            return;
+        }
+
+        var argument = arguments[index];
+        if (argument instanceof String) {
+            out.append((String) argument);
+
+        } else if (argument instanceof Number) {
+            out.append(FORMATS.get().number(locale).format(argument));
+
+        } else if (argument instanceof Date) {
+            out.append(FORMATS.get().date(locale).format(argument));
+
+        } else {
+            out.append(argument == null ? "null" : String.valueOf(argument.toString()));
+        }
+    }
+
+    MessageFormat fallback(Locale locale) {
+        var formats = this.formats;
+        if (formats == null) {
+            synchronized (this) {
+                formats = this.formats;
+                if (formats == null) {
+                    this.formats = formats = new ConcurrentHashMap<>(4);
+                }
+            }
+        }
+
+        var format = formats.computeIfAbsent(locale, key -> new MessageFormat(pattern, key));
+        return (MessageFormat) format.clone();
+    }
+
+
+    public String pattern() {
+        return pattern;
+    }
+
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Message && pattern.equals(((Message) other).pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+
+    static class Formats {
+
+        private @Nullable Locale locale;
+        private @Nullable NumberFormat number;
+        private @Nullable DateFormat date;
+
+
+        NumberFormat number(Locale locale) {
+            if (number == null || !locale.equals(this.locale)) {
+                reset(locale);
+                number = NumberFormat.getInstance(locale);
+            }
+
+            return number;
+        }
+
+        DateFormat date(Locale locale) {
+            if (date == null || !locale.equals(this.locale)) {
+                reset(locale);
+                date = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+            }
+
+            return date;
+        }
+
+        void reset(Locale locale) {
+            if (!locale.equals(this.locale)) {
+                this.locale = locale;
+                number = null;
+                date = null;
+            }
+        }
+
+    }
+
+}
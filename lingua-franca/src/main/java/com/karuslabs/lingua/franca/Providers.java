@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import com.karuslabs.lingua.franca.spi.BundleProvider;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+
+final class Providers {
+    
+    static Providers providers() {
+        return Shared.PROVIDERS;
+    }
+    
+    
+    private final List<BundleProvider> providers;
+    private final ConcurrentMap<String, List<BundleProvider>> index;
+    
+    
+    Providers(Iterable<? extends BundleProvider> providers) {
+        var loaded = new ArrayList<BundleProvider>();
+        try {
+            for (var provider : providers) {
+                loaded.add(provider);
+            }
+            
+        } catch (ServiceConfigurationError ignored) {
+            // Ignore error
+        }
+        
+        this.providers = List.copyOf(loaded);
+        this.index = new ConcurrentHashMap<>();
+    }
+    
+    
+    List<BundleProvider> get(String name) {
+        var providers = index.get(name);
+        if (providers == null) {
+            providers = index.computeIfAbsent(name, this::resolve);
+        }
+        
+        return providers;
+    }
+    
+    List<BundleProvider> resolve(String name) {
+        var resolved = new ArrayList<BundleProvider>();
+        for (var provider : providers) {
+            if (provider.provides(name)) {
+                resolved.add(provider);
+            }
+        }
+        
+        return resolved.isEmpty() ? List.of() : List.copyOf(resolved);
+    }
+    
+    
+    static class Shared {
+        
+        static final Providers PROVIDERS = new Providers(ServiceLoader.load(BundleProvider.class));
+        
+    }
+    
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.lang.ref.SoftReference;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+
+class Registry {
+    
+    private static final Entry[][] EMPTY = new Entry[0][];
+    
+    
+    private final ConcurrentMap<String, Integer> namespaces;
+    private final ConcurrentMap<Locale, Integer> locales;
+    private final ConcurrentMap<String, int[]> names;
+    private final AtomicInteger namespace;
+    private final AtomicInteger locale;
+    private final boolean retain;
+    private final boolean soft;
+    private volatile Entry[][] entries;
+    
+    
+    Registry(boolean retain) {
+        this(retain, false);
+    }
+    
+    Registry(boolean retain, boolean soft) {
+        this.namespaces = new ConcurrentHashMap<>();
+        this.locales = new ConcurrentHashMap<>();
+        this.names = new ConcurrentHashMap<>();
+        this.namespace = new AtomicInteger();
+        this.locale = new AtomicInteger();
+        this.retain = retain;
+        this.soft = soft;
+        this.entries = EMPTY;
+    }
+    
+    
+    @Nullable Bundle get(String name, Locale locale) {
+        var entry = entry(name, locale);
+        return entry == null ? null : entry.bundle();
+    }
+    
+    @Nullable Entry entry(String name, Locale locale) {
+        var namespace = namespaces.get(name);
+        var id = locales.get(locale);
+        if (namespace == null || id == null) {
+            return null;
+        }
+        
+        var entries = this.entries;
+        if (namespace >= entries.length) {
+            return null;
+        }
+        
+        var row = entries[namespace];
+        return row == null || id >= row.length ? null : row[id];
+    }
+    
+    
+    void put(String name, Locale locale, String bundleName, Bundle bundle) {
+        if (!retain) {
+            return;
+        }
+        
+        var namespace = namespaces.computeIfAbsent(name, k -> this.namespace.getAndIncrement());
+        var id = locales.computeIfAbsent(locale, k -> this.locale.getAndIncrement());
+        
+        names.put(bundleName, new int[] {namespace, id});
+        set(namespace, id, new Entry(bundle, bundleName, soft));
+    }
+    
+    void put(String name, Map<Locale, Bundle> bundles, Map<Locale, String> bundleNames) {
+        if (!retain || bundles.isEmpty()) {
+            return;
+        }
+        
+        var namespace = namespaces.computeIfAbsent(name, k -> this.namespace.getAndIncrement());
+        var ids = new HashMap<Integer, Entry>();
+        for (var entry : bundles.entrySet()) {
+            var bundleName = bundleNames.get(entry.getKey());
+            var id = locales.computeIfAbsent(entry.getKey(), k -> this.locale.getAndIncrement());
+            names.put(bundleName, new int[] {namespace, id});
+            ids.put(id, new Entry(entry.getValue(), bundleName, soft));
+        }
+        
+        set(namespace, ids);
+    }
+    
+    void remove(String bundleName) {
+        var ids = names.remove(bundleName);
+        if (ids != null) {
+            set(ids[0], ids[1], null);
+        }
+    }
+    
+    synchronized void remove(String bundleName, @Nullable Bundle bundle) {
+        var ids = names.get(bundleName);
+        if (ids == null || ids[0] >= entries.length) {
+            return;
+        }
+        
+        var row = entries[ids[0]];
+        if (row != null && ids[1] < row.length && row[ids[1]] != null && row[ids[1]].bundle() == bundle) {
+            names.remove(bundleName, ids);
+            set(ids[0], ids[1], null);
+        }
+    }
+    
+    synchronized void set(int namespace, int id, @Nullable Entry entry) {
+        var entries = Arrays.copyOf(this.entries, Math.max(this.entries.length, namespace + 1));
+        var row = entries[namespace];
+        row = row == null ? new Entry[id + 1] : Arrays.copyOf(row, Math.max(row.length, id + 1));
+        
+        row[id] = entry;
+        entries[namespace] = row;
+        this.entries = entries;
+    }
+    
+    synchronized void set(int namespace, Map<Integer, Entry> entries) {
+        var max = Collections.max(entries.keySet());
+        var table = Arrays.copyOf(this.entries, Math.max(this.entries.length, namespace + 1));
+        var row = table[namespace];
+        row = row == null ? new Entry[max + 1] : Arrays.copyOf(row, Math.max(row.length, max + 1));
+        
+        for (var entry : entries.entrySet()) {
+            row[entry.getKey()] = entry.getValue();
+        }
+        table[namespace] = row;
+        this.entries = table;
+    }
+    
+    synchronized void clear() {
+        names.clear();
+        entries = EMPTY;
+    }
+    
+    
+    static final class Entry {
+        
+        final @Nullable Bundle bundle;
+        final @Nullable SoftReference<Bundle> reference;
+        final String bundleName;
+        volatile long touched;
+        
+        Entry(Bundle bundle, String bundleName, boolean soft) {
+            this.bundle = soft ? null : bundle;
+            this.reference = soft ? new SoftReference<>(bundle) : null;
+            this.bundleName = bundleName;
+            this.touched = System.nanoTime();
+        }
+        
+        @Nullable Bundle bundle() {
+            return reference == null ? bundle : reference.get();
+        }
+        
+    }
+    
+}
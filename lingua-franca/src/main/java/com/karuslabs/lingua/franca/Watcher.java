@@ -0,0 +1,154 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import com.karuslabs.lingua.franca.metrics.Metrics;
+import com.karuslabs.lingua.franca.sources.SystemSource;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+
+public class Watcher implements Closeable {
+    
+    private final Bundler bundler;
+    private final long debounce;
+    private final WatchService service;
+    private final ConcurrentMap<WatchKey, SystemSource> sources;
+    private volatile @Nullable Thread thread;
+    
+    
+    public Watcher(Bundler bundler, Duration debounce) throws IOException {
+        this.bundler = bundler;
+        this.debounce = debounce.toMillis();
+        this.service = FileSystems.getDefault().newWatchService();
+        this.sources = new ConcurrentHashMap<>();
+    }
+    
+    
+    public void watch(SystemSource source) throws IOException {
+        var folder = Paths.get(source.folder()).toAbsolutePath().normalize();
+        sources.put(folder.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), source);
+    }
+    
+    
+    public synchronized Watcher start() {
+        if (thread == null) {
+            var thread = new Thread(this::run, "lingua-franca-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            this.thread = thread;
+        }
+        
+        return this;
+    }
+    
+    void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                var changed = new HashSet<String>();
+                var overflowed = collect(service.take(), changed);
+                
+                for (var key = service.poll(debounce, TimeUnit.MILLISECONDS); key != null; key = service.poll(debounce, TimeUnit.MILLISECONDS)) {
+                    overflowed |= collect(key, changed);
+                }
+                
+                refresh(changed, overflowed);
+            }
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            
+        } catch (ClosedWatchServiceException ignored) {
+            // Watcher was closed
+        }
+    }
+    
+    boolean collect(WatchKey key, Set<String> changed) {
+        var source = sources.get(key);
+        if (source != null) {
+            source.reindex();
+            bundler.loader().forget(source);
+        }
+        
+        var overflowed = false;
+        for (var event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflowed = true;
+                
+            } else {
+                changed.add(bundleName(((Path) event.context()).getFileName().toString()));
+            }
+        }
+        
+        if (!key.reset()) {
+            sources.remove(key);
+        }
+        
+        return overflowed;
+    }
+    
+    void refresh(Set<String> changed, boolean overflowed) {
+        try {
+            // An overflow drops events, so every published bundle may have changed
+            var future = overflowed ? bundler.reloadAll() : bundler.refresh(changed);
+            future.whenComplete((ignored, exception) -> {
+                if (exception != null) {
+                    Metrics.metrics().fail(changed, exception);
+                }
+            });
+            
+        } catch (RuntimeException e) {
+            Metrics.metrics().fail(changed, e);
+        }
+    }
+    
+    static String bundleName(String file) {
+        var extension = file.lastIndexOf('.');
+        return extension == -1 ? file : file.substring(0, extension);
+    }
+    
+    
+    public Set<SystemSource> sources() {
+        return Set.copyOf(sources.values());
+    }
+    
+    
+    @Override
+    public void close() throws IOException {
+        var thread = this.thread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        service.close();
+    }
+    
+}
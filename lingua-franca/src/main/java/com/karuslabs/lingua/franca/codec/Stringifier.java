@@ -25,10 +25,17 @@ package com.karuslabs.lingua.franca.codec;
 
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.node.*;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.dataformat.javaprop.JavaPropsMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
+import com.google.common.io.CountingInputStream;
+
+import com.karuslabs.lingua.franca.Message;
+import com.karuslabs.lingua.franca.metrics.Metrics;
+
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -58,14 +65,56 @@ public class Stringifier extends Visitor<ConcurrentMap<String, Object>, Concurre
 
 
     public @Nullable ConcurrentMap<String, Object> from(InputStream stream, String format) {
-        try (stream) {
-            return visit("", mapper(format).readTree(stream), new ConcurrentHashMap<>());
+        var metrics = Metrics.metrics();
+        if (metrics == Metrics.NONE) {
+            try (stream) {
+                return visit("", mapper(format).readTree(stream), new ConcurrentHashMap<>());
+
+            } catch (IOException ignored) {
+                return null;
+            }
+        }
+        
+        var start = System.nanoTime();
+        try (var counted = new CountingInputStream(stream)) {
+            var messages = visit("", mapper(format).readTree(counted), new ConcurrentHashMap<>());
+            metrics.parse(format, counted.getCount(), System.nanoTime() - start);
+            return messages;
 
-        } catch (IOException ignored) {
+        } catch (IOException e) {
+            metrics.fail(format, e);
+            return null;
+        }
+    }
+    
+    public @Nullable ConcurrentMap<String, Object> from(ByteBuffer buffer, String format) {
+        var metrics = Metrics.metrics();
+        var bytes = buffer.remaining();
+        var start = System.nanoTime();
+        try {
+            var messages = visit("", tree(mapper(format), buffer), new ConcurrentHashMap<>());
+            if (metrics != Metrics.NONE) {
+                metrics.parse(format, bytes, System.nanoTime() - start);
+            }
+            return messages;
+            
+        } catch (IOException e) {
+            metrics.fail(format, e);
             return null;
         }
     }
     
+    static JsonNode tree(ObjectMapper mapper, ByteBuffer buffer) throws IOException {
+        if (!buffer.hasArray()) {
+            return mapper.readTree(new ByteBufferBackedInputStream(buffer));
+        }
+        
+        try (var parser = mapper.getFactory().createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())) {
+            JsonNode tree = mapper.readTree(parser);
+            return tree == null ? MissingNode.getInstance() : tree;
+        }
+    }
+    
     protected ObjectMapper mapper(String format) {
         switch (format) {
             case "json":
@@ -101,34 +150,24 @@ public class Stringifier extends Visitor<ConcurrentMap<String, Object>, Concurre
             return map;
         }
 
-        var strings = new ArrayList<String>(array.size());
+        var strings = new String[array.size()];
         for (int i = 0; i < array.size(); i++) {
             var value = array.get(i);
-            var indexed = path + "[" + i + "]";
-            
             if (value.isArray() || value.isObject()) {
-                visit(indexed, value, map);
+                visit(path + "[" + i + "]", value, map);
 
             } else {
-                var text = value.asText();
-                strings.add(text);
-                map.put(indexed, text);
+                strings[i] = value.asText();
             }
         }
 
-        if (!strings.isEmpty()) {
-            map.put(path, strings.toArray(EMPTY));
-            
-        } else {
-            map.put(path, EMPTY);
-        }
-        
+        map.put(path, strings);
         return map;
     }
 
     @Override
     protected ConcurrentMap<String, Object> visit(String path, ValueNode value, ConcurrentMap<String, Object> map) {
-        map.put(path, value.asText());
+        map.put(path, Message.of(value.asText()));
         return map;
     }
     
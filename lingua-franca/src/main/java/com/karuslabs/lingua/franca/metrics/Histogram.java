@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+
+public class Histogram {
+    
+    static final int BUCKETS = 32;
+    
+    
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder sum;
+    
+    
+    public Histogram() {
+        buckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+        count = new LongAdder();
+        sum = new LongAdder();
+    }
+    
+    
+    public void record(long nanos) {
+        buckets[bucket(TimeUnit.NANOSECONDS.toMicros(nanos))].increment();
+        count.increment();
+        sum.add(nanos);
+    }
+    
+    static int bucket(long micros) {
+        return micros <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+    
+    
+    public long count() {
+        return count.sum();
+    }
+    
+    public long sum() {
+        return sum.sum();
+    }
+    
+    public long mean() {
+        var count = count();
+        return count == 0 ? 0 : sum() / count;
+    }
+    
+    public long[] buckets() {
+        var counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        
+        return counts;
+    }
+    
+    public long percentile(double percentile) {
+        var counts = buckets();
+        var total = 0L;
+        for (var bucket : counts) {
+            total += bucket;
+        }
+        
+        var target = (long) Math.ceil(total * percentile);
+        var seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target && seen > 0) {
+                return i == 0 ? 0 : TimeUnit.MICROSECONDS.toNanos(1L << i);
+            }
+        }
+        
+        return 0;
+    }
+    
+    
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[count = " + count() + ", mean = " + mean() + "ns]";
+    }
+    
+}
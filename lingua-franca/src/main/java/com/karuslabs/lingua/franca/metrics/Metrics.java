@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca.metrics;
+
+import com.karuslabs.lingua.franca.sources.Source;
+
+import java.io.IOException;
+import java.util.*;
+
+
+public interface Metrics {
+    
+    Metrics NONE = new Metrics() {};
+    
+    
+    static Metrics metrics() {
+        return Installation.metrics;
+    }
+    
+    static void install(Metrics metrics) {
+        Installation.metrics = metrics;
+    }
+    
+    
+    default void hit(String name, Locale locale) {}
+    
+    default void miss(String name, Locale locale) {}
+    
+    default void evict(String bundleName) {}
+    
+    default void load(String bundleName, long nanos) {}
+    
+    default void fail(Collection<String> bundleNames, Throwable exception) {}
+    
+    
+    default void load(Source source, String format, long nanos) {}
+    
+    default void fail(Source source, String resource, IOException exception) {}
+    
+    
+    default void parse(String format, long bytes, long nanos) {}
+    
+    default void fail(String format, IOException exception) {}
+    
+    
+    default void format() {}
+    
+}
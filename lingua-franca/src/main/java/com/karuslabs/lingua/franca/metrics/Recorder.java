@@ -0,0 +1,142 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca.metrics;
+
+import com.karuslabs.lingua.franca.sources.Source;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+
+public class Recorder implements Metrics {
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final Histogram bundles = new Histogram();
+    private final ConcurrentMap<Source, ConcurrentMap<String, Histogram>> loads = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final ConcurrentMap<String, Histogram> parses = new ConcurrentHashMap<>();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder formats = new LongAdder();
+    
+    
+    @Override
+    public void hit(String name, Locale locale) {
+        hits.increment();
+    }
+    
+    @Override
+    public void miss(String name, Locale locale) {
+        misses.increment();
+    }
+    
+    @Override
+    public void evict(String bundleName) {
+        evictions.increment();
+    }
+    
+    @Override
+    public void load(String bundleName, long nanos) {
+        bundles.record(nanos);
+    }
+    
+    @Override
+    public void fail(Collection<String> bundleNames, Throwable exception) {
+        failures.increment();
+    }
+    
+    
+    @Override
+    public void load(Source source, String format, long nanos) {
+        loads.computeIfAbsent(source, key -> new ConcurrentHashMap<>()).computeIfAbsent(format, key -> new Histogram()).record(nanos);
+    }
+    
+    @Override
+    public void fail(Source source, String resource, IOException exception) {
+        failures.increment();
+    }
+    
+    
+    @Override
+    public void parse(String format, long bytes, long nanos) {
+        parses.computeIfAbsent(format, key -> new Histogram()).record(nanos);
+        this.bytes.add(bytes);
+    }
+    
+    @Override
+    public void fail(String format, IOException exception) {
+        failures.increment();
+    }
+    
+    
+    @Override
+    public void format() {
+        formats.increment();
+    }
+    
+    
+    public long hits() {
+        return hits.sum();
+    }
+    
+    public long misses() {
+        return misses.sum();
+    }
+    
+    public long evictions() {
+        return evictions.sum();
+    }
+    
+    public Histogram bundles() {
+        return bundles;
+    }
+    
+    public Map<String, Histogram> loads(Source source) {
+        return Collections.unmodifiableMap(loads.getOrDefault(source, new ConcurrentHashMap<>()));
+    }
+    
+    public Set<Source> sources() {
+        return Collections.unmodifiableSet(loads.keySet());
+    }
+    
+    public long failures() {
+        return failures.sum();
+    }
+    
+    public Map<String, Histogram> parses() {
+        return Collections.unmodifiableMap(parses);
+    }
+    
+    public long bytes() {
+        return bytes.sum();
+    }
+    
+    public long formats() {
+        return formats.sum();
+    }
+    
+}
@@ -23,7 +23,11 @@
  */
 package com.karuslabs.lingua.franca.sources;
 
-import java.io.InputStream;
+import java.io.*;
+import java.net.URL;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.*;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -51,6 +55,17 @@ public class ClassLoaderSource extends FileSource {
         return loader.getResourceAsStream(folder + resource);
     }
     
+    @Override
+    public boolean exists(String resource) {
+        var index = index();
+        return index != null ? index.contains(resource) : url(resource) != null;
+    }
+    
+    @Override
+    protected @Nullable URL url(String resource) {
+        return loader.getResource(folder + resource);
+    }
+    
     
     @Override
     public boolean equals(Object other) {
@@ -67,4 +82,41 @@ public class ClassLoaderSource extends FileSource {
         return String.format("%s[classloader = %s, folder = %s]", getClass().getName(), loader, folder);
     }
     
+    
+    @Override
+    protected @Nullable Set<String> scan() {
+        if (loader != ClassLoader.getSystemClassLoader() || !platform()) {
+            return null;
+        }
+        
+        var index = new HashSet<String>();
+        try {
+            for (var entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                var path = Paths.get(entry);
+                if (Files.isDirectory(path)) {
+                    scan(path, folder, index);
+                    
+                } else if (Files.isRegularFile(path)) {
+                    try (var jar = new JarFile(path.toFile())) {
+                        var manifest = jar.getManifest();
+                        if (manifest != null && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null) {
+                            return null;
+                        }
+                        
+                        scan(jar, folder, index);
+                    }
+                }
+            }
+            
+            return index;
+            
+        } catch (IOException | UncheckedIOException | InvalidPathException ignored) {
+            return null;
+        }
+    }
+    
+    static boolean platform() {
+        return ModuleLayer.boot().configuration().modules().stream().allMatch(module -> module.reference().location().map(location -> location.getScheme().equals("jrt")).orElse(false));
+    }
+    
 }
@@ -23,14 +23,25 @@
  */
 package com.karuslabs.lingua.franca.sources;
 
+import java.io.*;
 import java.lang.StackWalker.Option;
+import java.net.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 
-public abstract class FileSource implements Source {
+
+public abstract class FileSource implements ChannelSource {
     
     static final StackWalker STACK = StackWalker.getInstance(Option.RETAIN_CLASS_REFERENCE);
+    static final Set<String> UNINDEXED = new HashSet<>();
     
     protected final String folder;
+    private volatile @Nullable Set<String> index;
     private volatile int hash;
     
     
@@ -40,6 +51,134 @@ public abstract class FileSource implements Source {
     }
     
     
+    public String folder() {
+        return folder;
+    }
+    
+    
+    @Override
+    public @Nullable Set<String> index() {
+        var index = this.index;
+        if (index == null) {
+            var scanned = scan();
+            this.index = index = scanned == null ? UNINDEXED : Set.copyOf(scanned);
+        }
+        
+        return index == UNINDEXED ? null : index;
+    }
+    
+    public void reindex() {
+        index = null;
+    }
+    
+    
+    @Override
+    public boolean exists(String resource) {
+        var index = index();
+        if (index != null) {
+            return index.contains(resource);
+        }
+        
+        try (var stream = load(resource)) {
+            return stream != null;
+            
+        } catch (IOException ignored) {
+            return false;
+        }
+    }
+    
+    @Override
+    public @Nullable ReadableByteChannel channel(String resource) {
+        var stream = load(resource);
+        return stream == null ? null : Channels.newChannel(stream);
+    }
+    
+    @Override
+    public long lastModified(String resource) {
+        return lastModified(url(resource));
+    }
+    
+    @Override
+    public long size(String resource) {
+        return size(url(resource));
+    }
+    
+    protected @Nullable URL url(String resource) {
+        return null;
+    }
+    
+    
+    protected static long lastModified(@Nullable URL url) {
+        try {
+            if (url == null) {
+                return -1;
+                
+            } else if (url.getProtocol().equals("jar")) {
+                return ((JarURLConnection) url.openConnection()).getJarEntry().getTime();
+                
+            } else {
+                return Files.getLastModifiedTime(path(url)).toMillis();
+            }
+            
+        } catch (IOException | URISyntaxException | RuntimeException ignored) {
+            return -1;
+        }
+    }
+    
+    static Path path(URL url) throws URISyntaxException {
+        var uri = url.toURI();
+        return uri.getScheme().equals("jrt") ? FileSystems.getFileSystem(uri.resolve("/")).getPath("/modules" + uri.getPath()) : Paths.get(uri);
+    }
+    
+    protected static long size(@Nullable URL url) {
+        try {
+            if (url == null) {
+                return -1;
+                
+            } else if (url.getProtocol().equals("jar")) {
+                return ((JarURLConnection) url.openConnection()).getJarEntry().getSize();
+                
+            } else {
+                return Files.size(path(url));
+            }
+            
+        } catch (IOException | URISyntaxException | RuntimeException ignored) {
+            return -1;
+        }
+    }
+    
+    protected @Nullable Set<String> scan() {
+        return null;
+    }
+    
+    
+    protected static void scan(Path root, String folder, Set<String> index) throws IOException {
+        var directory = root.resolve(folder);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        
+        try (var files = Files.walk(directory)) {
+            index.addAll(files.filter(file -> Files.isRegularFile(file) && bundle(file.toString())).map(file -> directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/")).collect(Collectors.toList()));
+        }
+    }
+    
+    protected static boolean bundle(String name) {
+        return name.endsWith(".json") || name.endsWith(".properties") || name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+    
+    protected static void scan(JarFile jar, String folder, Set<String> index) {
+        var entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            var entry = entries.nextElement();
+            var name = entry.getName();
+            if (!entry.isDirectory() && name.startsWith(folder) && bundle(name)) {
+                index.add(name.substring(folder.length()));
+            }
+        }
+    }
+    
+    
     @Override
     public boolean equals(Object other) {
         return this == other || other != null && getClass() == other.getClass()
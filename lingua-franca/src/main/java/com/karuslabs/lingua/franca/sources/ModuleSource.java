@@ -24,6 +24,10 @@
 package com.karuslabs.lingua.franca.sources;
 
 import java.io.*;
+import java.lang.module.ResolvedModule;
+import java.net.URL;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -56,6 +60,33 @@ public class ModuleSource extends FileSource {
         }
     }
     
+    @Override
+    public boolean exists(String resource) {
+        var index = index();
+        return index != null ? index.contains(resource) : url(resource) != null;
+    }
+    
+    @Override
+    protected @Nullable URL url(String resource) {
+        if (!module.isNamed()) {
+            var loader = module.getClassLoader();
+            return loader == null ? null : loader.getResource(folder + resource);
+        }
+        
+        var resolved = resolved();
+        if (resolved == null) {
+            return null;
+        }
+        
+        try (var reader = resolved.reference().open()) {
+            var uri = reader.find(folder + resource);
+            return uri.isPresent() ? uri.get().toURL() : null;
+            
+        } catch (IOException | IllegalArgumentException ignored) {
+            return null;
+        }
+    }
+    
     
     @Override
     public boolean equals(Object other) {
@@ -72,4 +103,31 @@ public class ModuleSource extends FileSource {
         return String.format("%s[module = %s, folder = %s]", getClass().getName(), module, folder);
     }
     
+    
+    @Override
+    protected @Nullable Set<String> scan() {
+        var resolved = resolved();
+        if (resolved == null) {
+            return null;
+        }
+        
+        try (var reader = resolved.reference().open(); var resources = reader.list()) {
+            return resources.filter(resource -> resource.startsWith(folder) && !resource.endsWith("/"))
+                            .map(resource -> resource.substring(folder.length()))
+                            .collect(Collectors.toSet());
+            
+        } catch (IOException | UncheckedIOException ignored) {
+            return null;
+        }
+    }
+    
+    @Nullable ResolvedModule resolved() {
+        var layer = module.getLayer();
+        if (!module.isNamed() || layer == null) {
+            return null;
+        }
+        
+        return layer.configuration().findModule(module.getName()).orElse(null);
+    }
+    
 }
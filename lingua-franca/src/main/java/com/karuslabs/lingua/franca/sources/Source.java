@@ -24,6 +24,7 @@
 package com.karuslabs.lingua.franca.sources;
 
 import java.io.InputStream;
+import java.util.Set;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -33,4 +34,8 @@ public interface Source {
     
     @Nullable InputStream load(String resource);
     
+    default @Nullable Set<String> index() {
+        return null;
+    }
+    
 }
@@ -23,7 +23,14 @@
  */
 package com.karuslabs.lingua.franca.sources;
 
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -31,26 +38,130 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public class SystemSource extends FileSource {
     
     public static final SystemSource RELATIVE_ROOT = new SystemSource("./");
+    public static final long MAPPED = 1 << 20;
+    
+    
+    private final long threshold;
     
     
     public SystemSource(String folder) {
+        this(folder, MAPPED);
+    }
+    
+    public SystemSource(String folder, long threshold) {
         super(folder);
+        this.threshold = threshold;
     }
 
     
     @Override
     public @Nullable InputStream load(String resource) {
-        var file = new File(folder, resource);
-        if (!file.isFile() || !file.canRead()) {
+        var path = path(resource);
+        var attributes = attributes(path);
+        if (attributes == null) {
+            return null;
+        }
+        
+        try {
+            return mapped(attributes.size()) ? new ByteBufferBackedInputStream(map(path)) : new BufferedInputStream(Files.newInputStream(path));
+            
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+    
+    @Override
+    public @Nullable ByteBuffer buffer(String resource) {
+        var path = path(resource);
+        var attributes = attributes(path);
+        if (attributes == null) {
             return null;
         }
         
         try {
-            return new BufferedInputStream(new FileInputStream(file));
+            return attributes.size() < threshold ? ByteBuffer.wrap(Files.readAllBytes(path)) : map(path);
             
-        } catch (FileNotFoundException ignored) {
+        } catch (IOException ignored) {
             return null;
         }
     }
     
+    @Override
+    public @Nullable ReadableByteChannel channel(String resource) {
+        var path = path(resource);
+        try {
+            return attributes(path) == null ? null : FileChannel.open(path, StandardOpenOption.READ);
+            
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+    
+    @Override
+    public boolean exists(String resource) {
+        return attributes(path(resource)) != null;
+    }
+    
+    @Override
+    public long lastModified(String resource) {
+        var attributes = attributes(path(resource));
+        return attributes == null ? -1 : attributes.lastModifiedTime().toMillis();
+    }
+    
+    @Override
+    public long size(String resource) {
+        var attributes = attributes(path(resource));
+        return attributes == null ? -1 : attributes.size();
+    }
+    
+    
+    @Nullable Path path(String resource) {
+        try {
+            return Paths.get(folder, resource);
+            
+        } catch (InvalidPathException ignored) {
+            return null;
+        }
+    }
+    
+    static @Nullable BasicFileAttributes attributes(@Nullable Path path) {
+        try {
+            var attributes = path == null ? null : Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes != null && attributes.isRegularFile() ? attributes : null;
+            
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+    
+    boolean mapped(long size) {
+        return threshold <= size && size <= Integer.MAX_VALUE;
+    }
+    
+    static ByteBuffer map(Path path) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to map: " + path);
+            }
+            
+            return channel.map(MapMode.READ_ONLY, 0, size);
+        }
+    }
+    
+    public long threshold() {
+        return threshold;
+    }
+    
+    
+    @Override
+    public boolean equals(Object other) {
+        return super.equals(other) && threshold == ((SystemSource) other).threshold;
+    }
+    
+    @Override
+    public int hashCode() {
+        return 53 * super.hashCode() + Long.hashCode(threshold);
+    }
+    
 }
@@ -26,14 +26,19 @@ package com.karuslabs.lingua.franca;
 import com.karuslabs.lingua.franca.annotations.*;
 import com.karuslabs.lingua.franca.sources.*;
 
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ResourceBundle.Control;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -84,12 +89,179 @@ class BundleLoaderTest {
     }
     
     
+    @Test
+    void load_indexed() {
+        var source = mock(Source.class);
+        when(source.index()).thenReturn(Set.of("indexed.yml"));
+        loader.add("indexed", source);
+        
+        loader.load("indexed", Locale.ROOT, Bundle.EMPTY);
+        
+        verify(source).load("indexed.yml");
+        verify(source, never()).load("indexed.json");
+        verify(source, never()).load("indexed.properties");
+    }
+    
+    
+    @Test
+    void load_channel() {
+        var source = mock(ChannelSource.class);
+        when(source.index()).thenReturn(null);
+        when(source.buffer(any())).then(invocation -> invocation.getArgument(0).equals("channel.yml") ? ByteBuffer.wrap("a: b".getBytes()) : null);
+        loader.add("channel", source);
+        
+        assertEquals("b", loader.load("channel", Locale.ROOT, Bundle.EMPTY).find("a"));
+        
+        verify(source, never()).exists(any());
+        verify(source, never()).load(any());
+    }
+    
+    
+    @Test
+    void load_channel_stale() {
+        var source = mock(ChannelSource.class);
+        when(source.index()).thenReturn(Set.of("stale.json", "stale.yml"));
+        when(source.buffer(any())).then(invocation -> invocation.getArgument(0).equals("stale.yml") ? ByteBuffer.wrap("a: b".getBytes()) : null);
+        loader.add("stale", source);
+        
+        assertEquals("b", loader.load("stale", Locale.ROOT, Bundle.EMPTY).find("a"));
+        verify(source).buffer("stale.json");
+    }
+    
+    
+    @Test
+    void load_failed() {
+        var source = mock(Source.class);
+        when(source.index()).thenReturn(null);
+        when(source.load(any())).then(invocation -> {
+            switch ((String) invocation.getArgument(0)) {
+                case "failed.json":
+                    return new ByteArrayInputStream("{\"a\": \"json\"}".getBytes()) {
+                        @Override
+                        public void close() throws IOException {
+                            throw new IOException();
+                        }
+                    };
+                    
+                case "failed.yml":
+                    return new ByteArrayInputStream("a: yml".getBytes());
+                    
+                default:
+                    return null;
+            }
+        });
+        loader.add("failed", source);
+        
+        assertEquals("yml", loader.load("failed", Locale.ROOT, Bundle.EMPTY).find("a"));
+    }
+    
+    
+    @Test
+    void load_absent() {
+        var source = mock(Source.class);
+        when(source.index()).thenReturn(null);
+        loader.add("absent", source);
+        
+        loader.load("absent", Locale.ROOT, Bundle.EMPTY);
+        loader.load("absent", Locale.ROOT, Bundle.EMPTY);
+        verify(source, times(1)).load("absent.json");
+        
+        loader.forget(source);
+        loader.load("absent", Locale.ROOT, Bundle.EMPTY);
+        verify(source, times(2)).load("absent.json");
+        
+        loader.remove("absent", source);
+        loader.add("absent", source);
+        loader.load("absent", Locale.ROOT, Bundle.EMPTY);
+        verify(source, times(3)).load("absent.json");
+    }
+    
+    
+    @Test
+    void load_absent_expired() throws InterruptedException {
+        var source = mock(Source.class);
+        when(source.index()).thenReturn(null);
+        var expiring = new BundleLoader(new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet(), CONTROL, Duration.ofNanos(1), "json");
+        expiring.add(source);
+        
+        expiring.load("absent", Locale.ROOT, Bundle.EMPTY);
+        Thread.sleep(1);
+        expiring.load("absent", Locale.ROOT, Bundle.EMPTY);
+        
+        verify(source, times(2)).load("absent.json");
+    }
+    
+    
+    @Test
+    void load_absent_disabled() {
+        var source = mock(Source.class);
+        when(source.index()).thenReturn(null);
+        var disabled = new BundleLoader(new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet(), CONTROL, Duration.ZERO, "json");
+        disabled.add(source);
+        
+        disabled.load("absent", Locale.ROOT, Bundle.EMPTY);
+        disabled.load("absent", Locale.ROOT, Bundle.EMPTY);
+        
+        verify(source, times(2)).load("absent.json");
+    }
+    
+    
     @Test
     void parents() {
         assertEquals(CONTROL.getCandidateLocales("", Locale.SIMPLIFIED_CHINESE), loader.parents("", Locale.SIMPLIFIED_CHINESE));
     }
     
     
+    @Test
+    void chain() {
+        var chain = new ArrayList<>(CONTROL.getCandidateLocales("", Locale.TRADITIONAL_CHINESE));
+        Collections.reverse(chain);
+        
+        assertEquals(chain, loader.chain("", Locale.TRADITIONAL_CHINESE));
+        assertSame(loader.chain("", Locale.TRADITIONAL_CHINESE), loader.chain("", Locale.TRADITIONAL_CHINESE));
+        assertSame(loader.parents("", Locale.TRADITIONAL_CHINESE), loader.parents("", Locale.TRADITIONAL_CHINESE));
+        assertThrows(UnsupportedOperationException.class, () -> loader.chain("", Locale.UK).clear());
+    }
+    
+    
+    @Test
+    void chain_control() {
+        var malay = new Locale("zsm", "MY");
+        var control = new Control() {
+            @Override
+            public List<Locale> getCandidateLocales(String name, Locale locale) {
+                var candidates = new ArrayList<>(super.getCandidateLocales(name, locale));
+                if (locale.getLanguage().equals("zsm")) {
+                    candidates.add(candidates.size() - 1, new Locale("ms"));
+                }
+                return candidates;
+            }
+        };
+        var custom = new BundleLoader(new ConcurrentHashMap<>(), ConcurrentHashMap.newKeySet(), control, "yml");
+        
+        assertEquals(List.of(Locale.ROOT, new Locale("ms"), new Locale("zsm"), malay), custom.chain("", malay));
+    }
+    
+    
+    @Test
+    void candidates_memoised() {
+        var calls = new int[1];
+        var counting = new BundleLoader() {
+            @Override
+            protected List<Locale> candidates(String name, Locale locale) {
+                calls[0]++;
+                return super.candidates(name, locale);
+            }
+        };
+        
+        counting.parents("a", Locale.UK);
+        counting.chain("a", Locale.UK);
+        counting.parents("b", Locale.UK);
+        
+        assertEquals(2, calls[0]);
+    }
+    
+    
     @Test
     void add_annotated_namespace() {
         loader.add(new AnnotatedNamespace());
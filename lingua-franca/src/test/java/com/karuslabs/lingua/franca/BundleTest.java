@@ -25,6 +25,7 @@ package com.karuslabs.lingua.franca;
 
 import com.karuslabs.lingua.franca.codec.Stringifier;
 
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.stream.Stream;
@@ -86,6 +87,98 @@ class BundleTest {
     }
     
     
+    @Test
+    void formatTo_builder() {
+        var builder = new StringBuilder("> ");
+        
+        assertTrue(BUNDLE.formatTo(builder, "key[0]", VALUE));
+        assertTrue(BUNDLE.formatTo(builder, "other"));
+        assertFalse(BUNDLE.formatTo(builder, "key"));
+        assertEquals("> a ?a", builder.toString());
+    }
+    
+    
+    @Test
+    void formatTo_appendable() throws IOException {
+        var writer = new StringWriter();
+        
+        assertTrue(BUNDLE.formatTo((Appendable) writer, "key[1]", VALUE));
+        assertTrue(BUNDLE.formatTo((Appendable) writer, "other"));
+        assertFalse(BUNDLE.formatTo((Appendable) writer, "key"));
+        assertEquals("b ?a", writer.toString());
+    }
+    
+    
+    @Test
+    void find_primitives() {
+        var bundle = new Bundle(new ConcurrentHashMap<>(Map.of("a", "{0} {1}", "b", "c")), Locale.UK);
+        
+        assertEquals("1,000 {1}", bundle.findNumber("a", 1000));
+        assertEquals("1 2", bundle.findNumber("a", 1L, 2L));
+        assertEquals("1.5 {1}", bundle.findNumber("a", 1.5));
+        assertEquals("1.5 2.25", bundle.findNumber("a", 1.5, 2.25));
+        assertEquals("c", bundle.findNumber("b", 1));
+        assertNull(bundle.findNumber("d", 1));
+        
+        var builder = new StringBuilder();
+        assertTrue(bundle.formatNumberTo(builder, "a", 1));
+        assertTrue(bundle.formatNumberTo(builder, "a", 1, 2));
+        assertTrue(bundle.formatNumberTo(builder, "a", 0.5));
+        assertTrue(bundle.formatNumberTo(builder, "a", 0.5, 1.0));
+        assertTrue(bundle.formatNumberTo(builder, "b", 1));
+        assertFalse(bundle.formatNumberTo(builder, "d", 1));
+        assertEquals("1 {1}1 20.5 {1}0.5 1c", builder.toString());
+    }
+    
+    
+    @Test
+    void find_boxed() {
+        var bundle = new Bundle(new ConcurrentHashMap<>(Map.of("a", "x{0}")), Locale.UK);
+        Long boxed = null;
+        
+        assertEquals("xnull", bundle.find("a", boxed));
+        assertEquals("xy", bundle.find("a", 'y'));
+        assertEquals("x1,000", bundle.find("a", 1000L));
+    }
+    
+    
+    @Test
+    void find_key() {
+        var parent = new ConcurrentHashMap<String, Object>(Map.of("a", "b {0}"));
+        var bundle = new Bundle(new ConcurrentHashMap<>(), Locale.ENGLISH, new Bundle(parent, Locale.ROOT));
+        var keys = new MessageKeys();
+        
+        assertEquals("b {0}", bundle.find(keys.of("a")));
+        assertEquals("b c", bundle.find(keys.of("a"), "c"));
+        assertEquals("b c", bundle.get(keys.of("a"), "c").orElseThrow());
+        assertEquals(VALUE, bundle.get(keys.of("d")).orElse(VALUE));
+        
+        parent.put("d", "e");
+        assertNull(bundle.find(keys.of("d")));
+        
+        var reloaded = new Bundle(new ConcurrentHashMap<>(), Locale.ENGLISH, new Bundle(parent, Locale.ROOT));
+        assertEquals("e", reloaded.find(keys.of("d")));
+        
+        var builder = new StringBuilder();
+        assertTrue(bundle.formatTo(builder, keys.of("a"), "f"));
+        assertEquals("b f", builder.toString());
+    }
+    
+    
+    @Test
+    void find_key_spaces() {
+        var bundle = new Bundle(new ConcurrentHashMap<>(Map.of("a", "b", "c", "d")), Locale.ENGLISH);
+        var first = new MessageKeys();
+        var second = new MessageKeys();
+        
+        assertEquals("b", bundle.find(first.of("a")));
+        assertEquals("d", bundle.find(second.of("c")));
+        assertEquals("b", bundle.find(first.of("a")));
+        assertEquals("d", bundle.find(second.of("c")));
+        assertEquals(0, second.of("c").index());
+    }
+    
+    
     @Test
     void messages() {
         assertArrayEquals(new String[]{"a {0}", "b {0}"}, BUNDLE.messages("key").orElse(EMPTY));
@@ -112,6 +205,67 @@ class BundleTest {
     }
     
     
+    @Test
+    void classify() {
+        var messages = new ConcurrentHashMap<String, Object>(Map.of("constant", "a", "parameterised", "b {0}"));
+        var bundle = new Bundle(messages, Locale.ROOT);
+        
+        assertEquals("b {0}", messages.get("parameterised"));
+        assertEquals("a", bundle.retrieve("constant"));
+        assertEquals(new Message("b {0}"), bundle.retrieve("parameterised"));
+        
+        messages.put("added", "c {0}");
+        assertEquals("c 1", bundle.find("added", 1));
+        assertEquals("c {0}", messages.get("added"));
+    }
+    
+    
+    @Test
+    void retrieve_element() {
+        var parent = new Bundle(new ConcurrentHashMap<>(Map.of("array", new String[] {"a", "b"})), Locale.ROOT);
+        var bundle = new Bundle(new ConcurrentHashMap<>(Map.of("array", new String[] {"c {0}", null}, "nested[0]", new String[] {"d"})), Locale.ENGLISH, parent);
+        
+        assertEquals(new Message("c {0}"), bundle.retrieve("array[0]"));
+        assertEquals("b", bundle.retrieve("array[1]"));
+        assertEquals("d", bundle.retrieve("nested[0][0]"));
+        assertNull(bundle.retrieve("array[2]"));
+        assertNull(bundle.retrieve("array[x]"));
+        assertNull(bundle.retrieve("array[]"));
+        
+        assertArrayEquals(new String[] {"c {0}"}, bundle.messagesIfPresent("array"));
+        assertEquals(Set.of("array[0]", "array[1]", "nested[0][0]"), bundle.keys());
+    }
+    
+    
+    @Test
+    void retrieve_miss() {
+        var parent = new ConcurrentHashMap<String, Object>();
+        var bundle = new Bundle(new ConcurrentHashMap<>(), Locale.ENGLISH, new Bundle(parent, Locale.ROOT));
+        
+        assertNull(bundle.retrieve("key"));
+        
+        parent.put("key", "value");
+        assertNull(bundle.retrieve("key"));
+        
+        var reloaded = new Bundle(new ConcurrentHashMap<>(), Locale.ENGLISH, new Bundle(parent, Locale.ROOT));
+        assertEquals("value", reloaded.retrieve("key"));
+    }
+    
+    
+    @Test
+    void retrieve_miss_bounded() {
+        var parent = new ConcurrentHashMap<String, Object>();
+        var bundle = new Bundle(new ConcurrentHashMap<>(), Locale.ROOT, new Bundle(parent, Locale.ROOT));
+        
+        for (int i = 0; i <= Bundle.MISSES; i++) {
+            assertNull(bundle.retrieve("key" + i));
+        }
+        
+        parent.put("key" + Bundle.MISSES, "value");
+        assertEquals("value", bundle.retrieve("key" + Bundle.MISSES));
+    }
+    
+    
     @Test
     void format_concurrency() throws InterruptedException, ExecutionException {
         var start = new CountDownLatch(2);
@@ -144,6 +298,41 @@ class BundleTest {
     }
     
     
+    @Test
+    void keys_copied_down() {
+        var parent = new Bundle(new ConcurrentHashMap<>(Map.of("b", "c", "d", "e")), Locale.ROOT);
+        var bundle = new Bundle(new ConcurrentHashMap<>(Map.of("a", "f")), Locale.ENGLISH, parent);
+        var iterator = bundle.keys().iterator();
+        
+        var keys = new ArrayList<String>();
+        keys.add(iterator.next());
+        assertEquals("c", bundle.find("b"));
+        assertEquals("e", bundle.find("d"));
+        iterator.forEachRemaining(keys::add);
+        
+        assertEquals(3, keys.size());
+        assertEquals(Set.of("a", "b", "d"), Set.copyOf(keys));
+        assertEquals(3, bundle.keys().size());
+    }
+    
+    
+    @Test
+    void keys_shadowed() {
+        var parent = new Bundle(new ConcurrentHashMap<>(Map.of("a", "b", "c", new String[] {"d"})), Locale.ROOT);
+        var bundle = new Bundle(new ConcurrentHashMap<>(Map.of("a", "e", "c", "f", "g", new String[] {})), Locale.ENGLISH, parent);
+        var keys = bundle.keys();
+        
+        assertSame(keys, bundle.keys());
+        assertEquals(Set.of("a", "c", "c[0]"), keys);
+        assertEquals("d", bundle.find("c[0]"));
+        assertEquals(3, keys.size());
+        assertEquals(Set.of("a", "c", "c[0]"), Set.copyOf(keys));
+        assertTrue(keys.contains("a"));
+        assertFalse(keys.contains("g"));
+        assertThrows(UnsupportedOperationException.class, () -> keys.remove("a"));
+    }
+    
+    
     @Test
     void getters() {
         assertEquals(Locale.ENGLISH, BUNDLE.locale());
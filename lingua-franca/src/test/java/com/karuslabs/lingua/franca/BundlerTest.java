@@ -23,16 +23,18 @@
  */
 package com.karuslabs.lingua.franca;
 
-import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.*;
 import com.google.common.collect.Lists;
 
 import com.karuslabs.lingua.franca.annotations.Namespace;
 import com.karuslabs.lingua.franca.sources.ClassLoaderSource;
 import com.karuslabs.lingua.franca.spi.BundleProvider;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.*;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.*;
@@ -63,20 +65,13 @@ class BundlerTest {
     
     final Bundler bundler = new Bundler(CacheBuilder.newBuilder().expireAfterAccess(10, MINUTES).maximumSize(512).build(), BundleLoader.loader());
     final Bundle chained = new Bundle(new ConcurrentHashMap<>(), Locale.UK, new Bundle(new ConcurrentHashMap<>(), Locale.ENGLISH, new Bundle(new ConcurrentHashMap<>(), Locale.ROOT)));
-    ServiceLoader<BundleProvider> service;
-    
-        
-    ServiceLoader<BundleProvider> mock_service() {
-        BundleProvider provider = when(mock(BundleProvider.class).get("loaded", Locale.UK)).thenReturn(chained).getMock();
-        service = (ServiceLoader<BundleProvider>) when(mock(ServiceLoader.class).iterator())
-                .thenReturn(List.of(provider).iterator()).getMock();
-        return service;
-    }
+    final BundleProvider provider = mock(BundleProvider.class);
     
     
     @BeforeEach
     void before() {
-        Bundler.PROVIDERS.remove();
+        when(provider.get("loaded", Locale.UK)).thenReturn(chained);
+        when(provider.provides("loaded")).thenReturn(true);
         bundler.loader().add(ClassLoaderSource.ROOT);
     }
     
@@ -147,35 +142,36 @@ class BundlerTest {
     
     @Test
     void loadFromServices() {
-        Bundler.PROVIDERS.set(mock_service());
-        
-        var bundle = bundler.loadFromServices("loaded", Locale.UK);
+        var provided = Bundler.builder().providers(List.of(provider)).build();
+        var bundle = provided.loadFromServices("loaded", Locale.UK);
         
         
         assertEquals(Locale.UK, bundle.locale());
         
-        assertEquals(Locale.UK, bundler.cache().getIfPresent("loaded_en_GB").locale());
-        assertEquals(Locale.ENGLISH, bundler.cache().getIfPresent("loaded_en").locale());
-        assertEquals(Locale.ROOT, bundler.cache().getIfPresent("loaded").locale());
+        assertEquals(Locale.UK, provided.cache().getIfPresent("loaded_en_GB").locale());
+        assertEquals(Locale.ENGLISH, provided.cache().getIfPresent("loaded_en").locale());
+        assertEquals(Locale.ROOT, provided.cache().getIfPresent("loaded").locale());
     }
     
     
     @Test
     void loadFromServices_nonexistent() {
-        Bundler.PROVIDERS.set(mock_service());
+        var provided = Bundler.builder().providers(List.of(provider)).build();
 
-        assertNull(bundler.loadFromServices("something", Locale.UK));
-        assertEquals(0, bundler.cache().size());
+        assertNull(provided.loadFromServices("something", Locale.UK));
+        assertNull(provided.loadFromServices("something", Locale.UK));
+        assertEquals(0, provided.cache().size());
+        verify(provider, times(1)).provides("something");
+        verify(provider, never()).get("something", Locale.UK);
     }
     
     
     @Test
     void loadFromServices_exception() {
-        service = when(mock(ServiceLoader.class).iterator()).thenThrow(ServiceConfigurationError.class).getMock();
-        Bundler.PROVIDERS.set(service);
+        var provided = Bundler.builder().providers(() -> { throw new ServiceConfigurationError("error"); }).build();
         
-        assertNull(bundler.loadFromServices("loaded", Locale.UK));
-        assertEquals(0, bundler.cache().size());
+        assertNull(provided.loadFromServices("loaded", Locale.UK));
+        assertEquals(0, provided.cache().size());
     }
     
     
@@ -216,6 +212,425 @@ class BundlerTest {
     }
     
     
+    @Test
+    void load_registry() {
+        var registered = new Bundler(CacheBuilder.newBuilder(), BundleLoader.loader(), UnaryOperator.identity());
+        var bundle = registered.load(NAME, Locale.UK);
+        
+        assertSame(bundle, registered.registry().get(NAME, Locale.UK));
+        assertSame(bundle, registered.load(NAME, Locale.UK));
+        
+        registered.cache().invalidate("loaded_en_GB");
+        assertNull(registered.registry().get(NAME, Locale.UK));
+    }
+    
+    
+    @Test
+    void load_concurrent() throws InterruptedException, ExecutionException {
+        var loads = new AtomicInteger();
+        var loader = new BundleLoader() {
+            @Override
+            public ConcurrentMap<String, Object> messages(String name, Locale locale) {
+                loads.incrementAndGet();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.messages(name, locale);
+            }
+        };
+        loader.add(ClassLoaderSource.ROOT);
+        
+        var concurrent = new Bundler(CacheBuilder.newBuilder().build(), loader);
+        var executor = Executors.newFixedThreadPool(8);
+        var start = new CountDownLatch(1);
+        var futures = new ArrayList<Future<Bundle>>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return concurrent.load(NAME, Locale.UK);
+            }));
+        }
+        
+        start.countDown();
+        var bundle = futures.get(0).get();
+        for (var future : futures) {
+            assertSame(bundle, future.get());
+        }
+        executor.shutdown();
+        
+        assertEquals(3, loads.get());
+        assertEquals("Morning", bundle.find("hello"));
+        assertSame(bundle.parent(), concurrent.cache().getIfPresent("loaded_en"));
+    }
+    
+    
+    @Test
+    void loadFromBundleLoader_parallel() {
+        var barrier = new CyclicBarrier(3);
+        var loader = new BundleLoader() {
+            @Override
+            public ConcurrentMap<String, Object> messages(String name, Locale locale) {
+                try {
+                    barrier.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                    throw new IllegalStateException(e);
+                }
+                return super.messages(name, locale);
+            }
+        };
+        loader.add(ClassLoaderSource.ROOT);
+        
+        var executor = Executors.newFixedThreadPool(3);
+        try {
+            var parallel = Bundler.builder().loader(loader).executor(executor).build();
+            var bundle = parallel.load(NAME, Locale.UK);
+            
+            assertEquals("Morning", bundle.find("hello"));
+            assertEquals("Hey", bundle.parent().find("hello"));
+            assertEquals("Hello", bundle.parent().parent().find("hello"));
+            assertSame(bundle.parent(), parallel.load(NAME, Locale.ENGLISH));
+            
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    
+    @Test
+    void loadFromBundleLoader_rejected() {
+        var rejecting = Bundler.builder().executor(task -> { throw new RejectedExecutionException(); }).build();
+        
+        assertEquals("Morning", rejecting.load(NAME, Locale.UK).find("hello"));
+    }
+    
+    
+    @Test
+    void loadAsync() {
+        var tasks = new ArrayList<Runnable>();
+        var async = new Bundler(CacheBuilder.newBuilder().build(), BundleLoader.loader(), UnaryOperator.identity(), tasks::add);
+        
+        var future = async.loadAsync(NAME, Locale.UK);
+        var shared = async.loadAsync(NAME, Locale.UK);
+        assertNotSame(future, shared);
+        assertFalse(future.isDone());
+        assertEquals(1, tasks.size());
+        
+        shared.cancel(true);
+        tasks.get(0).run();
+        var bundle = future.join();
+        var submitted = tasks.size();
+        assertEquals("Morning", bundle.find("hello"));
+        
+        var cached = async.loadAsync(NAME, Locale.UK);
+        assertTrue(cached.isDone());
+        assertSame(bundle, cached.join());
+        assertEquals(submitted, tasks.size());
+    }
+    
+    
+    @Test
+    void reloadAsync() {
+        var tasks = new ArrayList<Runnable>();
+        var async = new Bundler(CacheBuilder.newBuilder().build(), BundleLoader.loader(), UnaryOperator.identity(), tasks::add);
+        var bundle = async.load(NAME, Locale.UK);
+        
+        var future = async.reloadAsync(NAME, Locale.UK);
+        assertFalse(future.isDone());
+        
+        tasks.get(tasks.size() - 1).run();
+        assertNotSame(bundle, future.join());
+        assertSame(future.join(), async.load(NAME, Locale.UK));
+    }
+    
+    
+    @Test
+    void reloadAsync_started() throws InterruptedException {
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var reads = new AtomicInteger();
+        var loader = new BundleLoader() {
+            @Override
+            public ConcurrentMap<String, Object> messages(String name, Locale locale) {
+                if (reads.getAndIncrement() == 0) {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.messages(name, locale);
+            }
+        };
+        loader.add(ClassLoaderSource.ROOT);
+        
+        var tasks = new ConcurrentLinkedQueue<Runnable>();
+        var async = new Bundler(CacheBuilder.newBuilder().build(), loader, UnaryOperator.identity(), tasks::add);
+        
+        var first = CompletableFuture.supplyAsync(() -> async.reload(NAME, Locale.UK));
+        entered.await();
+        
+        var second = async.reloadAsync(NAME, Locale.UK);
+        var third = async.reloadAsync(NAME, Locale.UK);
+        
+        release.countDown();
+        var bundle = first.join();
+        var read = reads.get();
+        assertFalse(second.isDone());
+        
+        for (var task = tasks.poll(); task != null; task = tasks.poll()) {
+            task.run();
+        }
+        
+        assertTrue(reads.get() > read);
+        assertNotSame(bundle, second.join());
+        assertSame(second.join(), third.join());
+        assertSame(second.join(), async.load(NAME, Locale.UK));
+    }
+    
+    
+    @Test
+    void loadAsync_rejected() {
+        var async = new Bundler(CacheBuilder.newBuilder().build(), BundleLoader.loader(), UnaryOperator.identity(), task -> { throw new RejectedExecutionException(); });
+        
+        assertTrue(async.loadAsync(NAME, Locale.UK).isCompletedExceptionally());
+        assertEquals("Morning", async.load(NAME, Locale.UK).find("hello"));
+    }
+    
+    
+    @Test
+    void loadAsync_annotated() {
+        assertSame(Bundle.EMPTY, bundler.loadAsync(Object.class, Locale.UK).join());
+    }
+    
+    
+    @Test
+    void preload() {
+        var preloaded = bundler.preload(List.of(NAME), List.of(Locale.UK, Locale.US, Locale.JAPAN));
+        
+        assertEquals(Set.of(NAME), preloaded.keySet());
+        assertNotNull(preloaded.get(NAME));
+        assertSame(bundler.cache().getIfPresent("loaded_en"), bundler.load(NAME, Locale.UK).parent());
+        assertSame(bundler.load(NAME, Locale.UK).parent(), bundler.load(NAME, Locale.US).parent());
+        assertEquals(6, bundler.cache().size());
+    }
+    
+    
+    @Test
+    void preload_executor() {
+        var executed = new AtomicInteger();
+        var preloading = Bundler.builder().executor(task -> {
+            executed.incrementAndGet();
+            task.run();
+        }).build();
+        
+        preloading.preload(List.of(NAME), List.of(Locale.UK));
+        assertEquals(3, executed.get());
+    }
+    
+    
+    @Test
+    void preload_namespaces() {
+        var loader = new BundleLoader();
+        loader.add(NAME, ClassLoaderSource.ROOT);
+        var preloading = new Bundler(CacheBuilder.newBuilder().build(), loader);
+        
+        assertEquals(Set.of(NAME), preloading.preload(List.of(Locale.UK)).keySet());
+        assertEquals(3, preloading.cache().size());
+    }
+    
+    
+    @Test
+    void waves() {
+        var waves = List.copyOf(bundler.waves(NAME, List.of(Locale.UK, Locale.US, Locale.FRENCH)));
+        
+        assertEquals(List.of(Locale.ROOT), waves.get(0));
+        assertEquals(List.of(Locale.ENGLISH, Locale.FRENCH), waves.get(1));
+        assertEquals(List.of(Locale.UK, Locale.US), waves.get(2));
+    }
+    
+    
+    @Test
+    void builder_weight() {
+        var weighted = Bundler.builder().maximumWeight(0).build();
+        var bundle = weighted.load(NAME, Locale.UK);
+        
+        assertEquals("Morning", bundle.find("hello"));
+        assertEquals(0, weighted.cache().size());
+        assertNull(weighted.registry().get(NAME, Locale.UK));
+        assertNotSame(bundle, weighted.load(NAME, Locale.UK));
+    }
+    
+    
+    @Test
+    void builder_weigh() {
+        var bundle = bundler.load(NAME, Locale.UK);
+        
+        assertEquals(bundle.messages.size(), Bundler.Builder.weigh("loaded_en_GB", bundle));
+        assertEquals(((FrozenBundle) FrozenBundle.freeze(bundle)).size(), Bundler.Builder.weigh("loaded_en_GB", FrozenBundle.freeze(bundle)));
+        assertEquals(1, Bundler.Builder.weigh("empty", Bundle.EMPTY));
+    }
+    
+    
+    @Test
+    void builder_ttl() {
+        var expiring = Bundler.builder().expireAfterWrite(NAME, Duration.ZERO).softValues().build();
+        var bundle = expiring.load(NAME, Locale.UK);
+        assertNotNull(expiring.registry().entry(NAME, Locale.UK).reference);
+        
+        assertNotSame(bundle, expiring.load(NAME, Locale.UK));
+        assertEquals("Morning", expiring.load(NAME, Locale.UK).find("hello"));
+    }
+    
+    
+    @Test
+    void touch() {
+        assertEquals(Bundler.TOUCH, Bundler.bundler().touch());
+        assertEquals(Bundler.TOUCH, bundler.touch());
+        assertEquals(Duration.ofMillis(100).toNanos(), Bundler.builder().expireAfterAccess(Duration.ofMillis(200)).build().touch());
+        assertEquals(Bundler.TOUCH, Bundler.builder().expireAfterAccess(null).build().touch());
+    }
+    
+    
+    @Test
+    void builder_access() throws InterruptedException {
+        var accessed = Bundler.builder().expireAfterAccess(Duration.ofSeconds(1)).build();
+        var bundle = accessed.load(NAME, Locale.UK);
+        
+        for (int i = 0; i < 15; i++) {
+            Thread.sleep(150);
+            assertSame(bundle, accessed.load(NAME, Locale.UK));
+        }
+        assertSame(bundle, accessed.cache().getIfPresent("loaded_en_GB"));
+    }
+    
+    
+    @Test
+    void evict_stale() {
+        var fresh = Bundler.builder().expireAfterWrite(NAME, Duration.ofMinutes(1)).build();
+        var stale = fresh.load(NAME, Locale.UK);
+        
+        fresh.cache().invalidate("loaded_en_GB");
+        var bundle = fresh.load(NAME, Locale.UK);
+        fresh.evict(RemovalNotification.create("loaded_en_GB", stale, RemovalCause.EXPIRED));
+        
+        assertNotSame(stale, bundle);
+        assertSame(bundle, fresh.registry().get(NAME, Locale.UK));
+        assertSame(bundle, fresh.load(NAME, Locale.UK));
+        
+        fresh.evict(RemovalNotification.create("loaded_en_GB", stale, RemovalCause.EXPIRED));
+        fresh.cache().invalidate("loaded_en_GB");
+        assertNull(fresh.registry().get(NAME, Locale.UK));
+    }
+    
+    
+    @Test
+    void builder_cache() {
+        var cache = CacheBuilder.newBuilder().<String, Bundle>build();
+        var backed = Bundler.builder().cache(cache).storage(FrozenBundle::freeze).build();
+        var bundle = backed.load(NAME, Locale.UK);
+        
+        assertSame(bundle, cache.getIfPresent("loaded_en_GB"));
+        assertSame(bundle, backed.load(NAME, Locale.UK));
+    }
+    
+    
+    @Test
+    void key() {
+        var key = bundler.key(NAME, "a");
+        
+        assertSame(key, bundler.key(NAME, "a"));
+        assertEquals(0, bundler.key("other", "b").index());
+        assertNotSame(key.keys(), bundler.key("other", "b").keys());
+    }
+    
+    
+    @Test
+    void builder_invalid() {
+        assertEquals(
+            "Eviction policies cannot be specified with a custom cache",
+            assertThrows(IllegalStateException.class, () -> Bundler.builder().cache(CacheBuilder.newBuilder().build()).maximumSize(1).build()).getMessage()
+        );
+        assertThrows(IllegalStateException.class, () -> Bundler.builder().cache(CacheBuilder.newBuilder().build()).expireAfterAccess(Duration.ofMinutes(10)).build());
+        assertEquals(
+            "Maximum size and maximum weight cannot both be specified",
+            assertThrows(IllegalStateException.class, () -> Bundler.builder().maximumSize(1).maximumWeight(1).build()).getMessage()
+        );
+    }
+    
+    
+    @Test
+    void reload_chain() {
+        var registered = Bundler.builder().build();
+        var old = registered.load(NAME, Locale.UK);
+        var reloaded = registered.reload(NAME, Locale.UK);
+        
+        assertNotSame(old, reloaded);
+        assertNotSame(old.parent(), reloaded.parent());
+        assertSame(reloaded, registered.load(NAME, Locale.UK));
+        assertSame(reloaded.parent(), registered.load(NAME, Locale.ENGLISH));
+        assertSame(reloaded.parent().parent(), registered.load(NAME, Locale.ROOT));
+        assertEquals("Hey", old.parent().find("hello"));
+    }
+    
+    
+    @Test
+    void reloadAll() {
+        var registered = Bundler.builder().executor(Runnable::run).build();
+        var uk = registered.load(NAME, Locale.UK);
+        var us = registered.load(NAME, Locale.US);
+        
+        registered.reloadAll().join();
+        
+        var reloaded = registered.load(NAME, Locale.UK);
+        assertNotSame(uk, reloaded);
+        assertNotSame(us, registered.load(NAME, Locale.US));
+        assertSame(reloaded.parent(), registered.load(NAME, Locale.US).parent());
+        assertSame(reloaded.parent(), registered.load(NAME, Locale.ENGLISH));
+        assertEquals("Morning", reloaded.find("hello"));
+        assertEquals(4, registered.cache().size());
+    }
+    
+    
+    @Test
+    void refresh() {
+        var registered = Bundler.builder().executor(Runnable::run).build();
+        var uk = registered.load(NAME, Locale.UK);
+        var us = registered.load(NAME, Locale.US);
+        var ja = registered.load(NAME, Locale.JAPANESE);
+        
+        registered.refresh(List.of("loaded_en", "unknown")).join();
+        
+        var reloaded = registered.load(NAME, Locale.UK);
+        assertNotSame(uk, reloaded);
+        assertNotSame(uk.parent(), reloaded.parent());
+        assertSame(uk.parent().parent(), reloaded.parent().parent());
+        assertSame(reloaded.parent(), registered.load(NAME, Locale.US).parent());
+        assertNotSame(us, registered.load(NAME, Locale.US));
+        assertSame(ja, registered.load(NAME, Locale.JAPANESE));
+    }
+    
+    
+    @Test
+    void reloadAll_empty() {
+        assertTrue(Bundler.builder().build().reloadAll().isDone());
+    }
+    
+    
+    @Test
+    void loadFromBundleLoader_frozen() {
+        var frozen = new Bundler(CacheBuilder.newBuilder().build(), BundleLoader.loader(), FrozenBundle::freeze);
+        var bundle = frozen.load(NAME, Locale.UK);
+        
+        assertTrue(bundle instanceof FrozenBundle);
+        assertEquals("Morning", bundle.find("hello"));
+        assertEquals("Hey", bundle.parent().find("hello"));
+        assertSame(bundle.parent(), frozen.load(NAME, Locale.ENGLISH));
+    }
+    
+    
     @Test
     void loadFromBundleLoader_empty() {
         var bundle = bundler.loadFromBundleLoader(NAME, Lists.reverse(BundleLoader.loader().parents(NAME, Locale.FRANCE)), bundler.loader(), false);
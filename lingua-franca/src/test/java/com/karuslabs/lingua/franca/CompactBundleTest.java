@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class CompactBundleTest {
+    
+    static final Bundle ROOT = new Bundle(new ConcurrentHashMap<>(Map.of("root", "a", "shadowed", "b", "array", new String[] {"c"})), Locale.ROOT);
+    static final Bundle CHILD = new Bundle(new ConcurrentHashMap<>(Map.of("child", "d {0}", "shadowed", "e", "unicode", "日本語 {0}")), Locale.JAPANESE, ROOT);
+    
+    
+    @Test
+    void compact() {
+        var bundle = CompactBundle.compact(CHILD);
+        
+        assertTrue(bundle instanceof CompactBundle);
+        assertTrue(bundle.parent() instanceof CompactBundle);
+        assertSame(bundle, CompactBundle.compact(bundle));
+        assertSame(Bundle.EMPTY, CompactBundle.compact(Bundle.EMPTY));
+    }
+    
+    
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void retrieve(boolean cache) {
+        var bundle = CompactBundle.compact(CHILD, cache);
+        
+        assertEquals("a", bundle.find("root"));
+        assertEquals("e", bundle.find("shadowed"));
+        assertEquals("d f", bundle.find("child", "f"));
+        assertEquals("日本語 f", bundle.find("unicode", "f"));
+        assertArrayEquals(new String[] {"c"}, bundle.messagesIfPresent("array"));
+        assertNull(bundle.find("other"));
+        
+        assertEquals("b", bundle.parent().find("shadowed"));
+        assertSame(bundle.retrieve("child"), bundle.retrieve("child"));
+        assertEquals(cache, bundle.retrieve("shadowed") == bundle.retrieve("shadowed"));
+    }
+    
+    
+    @Test
+    void keys() {
+        assertEquals(Set.of("root", "shadowed", "child", "unicode", "array[0]"), CompactBundle.compact(CHILD).keys());
+    }
+    
+    
+    @Test
+    void own() {
+        var bundle = (CompactBundle) CompactBundle.compact(CHILD);
+        
+        assertEquals(3, bundle.size());
+        assertNull(bundle.own("root"));
+        assertEquals("a", bundle.find("root"));
+    }
+    
+    
+    @Test
+    void own_cached() {
+        var root = new Bundle(new ConcurrentHashMap<>(Map.of("a", "b")), Locale.ROOT);
+        var child = new Bundle(new ConcurrentHashMap<>(Map.of("c", "日本語")), Locale.JAPANESE, root);
+        child.find("a");
+        
+        var bundle = (CompactBundle) CompactBundle.compact(child);
+        assertEquals(1, bundle.size());
+        assertEquals("日本語".getBytes(UTF_8).length, bundle.bytes());
+        assertEquals("b", bundle.find("a"));
+    }
+    
+    
+    @Test
+    void own_pure() {
+        var root = new Bundle(new ConcurrentHashMap<>(Map.of("a", "b {0}", "c", "d")), Locale.ROOT);
+        var parent = new Bundle(new ConcurrentHashMap<>(), Locale.ENGLISH, root);
+        var child = new Bundle(new ConcurrentHashMap<>(Map.of("c", "e")), Locale.UK, parent);
+        child.find("a", 1);
+        
+        assertEquals(Map.of("c", "e"), CompactBundle.own(child));
+        assertNull(parent.own("c"));
+        assertEquals(Set.of("a"), parent.messages.keySet());
+    }
+    
+    
+    @Test
+    void freeze() {
+        var child = new Bundle(new ConcurrentHashMap<>(Map.of("f", "g")), Locale.JAPAN, CompactBundle.compact(CHILD));
+        var frozen = FrozenBundle.freeze(child);
+        
+        assertEquals("g", frozen.find("f"));
+        assertEquals("e", frozen.find("shadowed"));
+        assertEquals("a", frozen.find("root"));
+    }
+    
+    
+    @Test
+    void bytes() {
+        var bundle = (CompactBundle) CompactBundle.compact(CHILD);
+        
+        assertEquals("e".length(), bundle.bytes());
+        assertEquals("ab".length(), ((CompactBundle) bundle.parent()).bytes());
+    }
+    
+}
@@ -80,6 +80,16 @@ class EmptyBundleTest {
     }
     
     
+    @Test
+    void retrieve_key() {
+        var key = new MessageKeys().of("key");
+        
+        assertNull(EMPTY.retrieve(key));
+        assertNull(EMPTY.find(key));
+        assertEquals(Optional.empty(), EMPTY.get(key));
+    }
+    
+    
     @Test
     void keys() {
         assertEquals(Collections.emptySet(), EMPTY.keys());
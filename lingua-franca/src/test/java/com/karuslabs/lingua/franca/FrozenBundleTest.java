@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class FrozenBundleTest {
+    
+    static final Bundle ROOT = new Bundle(new ConcurrentHashMap<>(Map.of("root", "a", "shadowed", "b", "array", new String[] {"c"})), Locale.ROOT);
+    static final Bundle CHILD = new Bundle(new ConcurrentHashMap<>(Map.of("child", "d {0}", "shadowed", "e")), Locale.ENGLISH, ROOT);
+    static final Bundle FROZEN = FrozenBundle.freeze(CHILD);
+    
+    
+    @Test
+    void freeze() {
+        assertTrue(FROZEN instanceof FrozenBundle);
+        assertTrue(FROZEN.parent() instanceof FrozenBundle);
+        assertSame(Bundle.EMPTY, FROZEN.parent().parent());
+        
+        assertSame(FROZEN, FrozenBundle.freeze(FROZEN));
+        assertSame(Bundle.EMPTY, FrozenBundle.freeze(Bundle.EMPTY));
+    }
+    
+    
+    @Test
+    void retrieve() {
+        assertEquals("a", FROZEN.find("root"));
+        assertEquals("e", FROZEN.find("shadowed"));
+        assertEquals("d f", FROZEN.find("child", "f"));
+        assertArrayEquals(new String[] {"c"}, FROZEN.messagesIfPresent("array"));
+        assertEquals("c", FROZEN.find("array[0]"));
+        assertNull(FROZEN.find("array[1]"));
+        assertNull(FROZEN.find("other"));
+        
+        assertEquals("b", FROZEN.parent().find("shadowed"));
+        assertNull(FROZEN.parent().find("child"));
+    }
+    
+    
+    @Test
+    void retrieve_collisions() {
+        var messages = new ConcurrentHashMap<String, Object>();
+        for (int i = 0; i < 1000; i++) {
+            messages.put("key" + i, "value" + i);
+        }
+        
+        var frozen = (FrozenBundle) FrozenBundle.freeze(new Bundle(messages, Locale.ROOT));
+        
+        assertEquals(1000, frozen.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("value" + i, frozen.find("key" + i));
+        }
+        assertNull(frozen.find("key1000"));
+    }
+    
+    
+    @Test
+    void retrieve_elements() {
+        var parent = new Bundle(new ConcurrentHashMap<>(Map.of("array", new String[] {"a", "b {0}"})), Locale.ROOT);
+        var frozen = FrozenBundle.freeze(new Bundle(new ConcurrentHashMap<>(Map.of("array", new String[] {"c"})), Locale.ENGLISH, parent));
+        
+        assertEquals("c", frozen.find("array[0]"));
+        assertEquals("b d", frozen.find("array[1]", "d"));
+        assertEquals(Set.of("array[0]", "array[1]"), frozen.keys());
+    }
+    
+    
+    @Test
+    void keys() {
+        assertEquals(Set.of("root", "shadowed", "child", "array[0]"), FROZEN.keys());
+    }
+    
+}
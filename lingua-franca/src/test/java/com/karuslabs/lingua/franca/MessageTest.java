@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.*;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.of;
+
+
+@ExtendWith(MockitoExtension.class)
+class MessageTest {
+    
+    static final Date DATE = new Date(0);
+    
+    
+    @ParameterizedTest
+    @MethodSource("format_provider")
+    void format(String pattern, Object[] arguments) {
+        assertEquals(new MessageFormat(pattern, Locale.GERMANY).format(arguments), new Message(pattern).format(Locale.GERMANY, arguments));
+    }
+    
+    
+    static Stream<Arguments> format_provider() {
+        return Stream.of(
+            of("constant", new Object[] {}),
+            of("don't {0}", new Object[] {"a"}),
+            of("''{0}'' '{1}' }", new Object[] {"a", "b"}),
+            of("{0} {1} {2}", new Object[] {1234567.891, 5L, null}),
+            of("{0} {1}", new Object[] {DATE}),
+            of("{0,number,#.#} {1}", new Object[] {1.25, "b"}),
+            of("{0,choice,0#none|1#one|1<many}", new Object[] {2})
+        );
+    }
+    
+    
+    @ParameterizedTest
+    @MethodSource("format_provider")
+    void formatTo(String pattern, Object[] arguments) {
+        var builder = new StringBuilder("> ");
+        assertEquals("> " + new MessageFormat(pattern, Locale.GERMANY).format(arguments), new Message(pattern).formatTo(builder, Locale.GERMANY, arguments).toString());
+    }
+    
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"{0} {1} {2}", "{1}, {0}", "{0,number,#.#} {1}", "constant"})
+    void formatTo_primitives(String pattern) {
+        var format = new MessageFormat(pattern, Locale.GERMANY);
+        var message = new Message(pattern);
+        
+        assertEquals(format.format(new Object[] {1234567L}), message.formatNumberTo(new StringBuilder(), Locale.GERMANY, 1234567L).toString());
+        assertEquals(format.format(new Object[] {1L, -2L}), message.formatNumberTo(new StringBuilder(), Locale.GERMANY, 1L, -2L).toString());
+        assertEquals(format.format(new Object[] {1.25}), message.formatNumberTo(new StringBuilder(), Locale.GERMANY, 1.25).toString());
+        assertEquals(format.format(new Object[] {1.25, 1234.5678}), message.formatNumberTo(new StringBuilder(), Locale.GERMANY, 1.25, 1234.5678).toString());
+    }
+    
+    
+    @Test
+    void format_null() {
+        assertEquals("a {0}", new Message("a {0}").format(Locale.ROOT, (Object[]) null));
+    }
+    
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"a {0", "a { 0 }", "a {}"})
+    void format_invalid(String pattern) {
+        assertThrows(IllegalArgumentException.class, () -> new Message(pattern).format(Locale.ROOT));
+    }
+    
+    
+    @Test
+    void format_locale() {
+        var message = new Message("{0,number,#,##0.0}");
+        
+        assertEquals("1,234.5", message.format(Locale.UK, 1234.5));
+        assertEquals("1.234,5", message.format(Locale.GERMANY, 1234.5));
+        assertEquals("1,234.5", message.format(Locale.UK, 1234.5));
+    }
+    
+    
+    @Test
+    void fallback() {
+        var message = new Message("{0,number,#,##0.0}");
+        var uk = message.fallback(Locale.UK);
+        message.fallback(Locale.GERMANY);
+        
+        assertNotSame(uk, message.fallback(Locale.UK));
+        assertEquals(uk, message.fallback(Locale.UK));
+        assertEquals(Locale.GERMANY, message.fallback(Locale.GERMANY).getLocale());
+    }
+    
+    
+    @Test
+    void pattern() {
+        assertEquals("a {0}", new Message("a {0}").pattern());
+        assertEquals("a {0}", new Message("a {0}").toString());
+    }
+    
+    
+    @Test
+    void equality() {
+        assertEquals(new Message("a {0}"), new Message("a {0}"));
+        assertEquals(new Message("a {0}").hashCode(), new Message("a {0}").hashCode());
+        assertNotEquals(new Message("a {0}"), new Message("b {0}"));
+    }
+    
+}
@@ -0,0 +1,76 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import com.karuslabs.lingua.franca.spi.BundleProvider;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class ProvidersTest {
+    
+    final BundleProvider first = mock(BundleProvider.class);
+    final BundleProvider second = mock(BundleProvider.class);
+    
+    
+    @Test
+    void get() {
+        when(first.provides("a")).thenReturn(true);
+        when(second.provides("a")).thenReturn(true);
+        when(second.provides("b")).thenReturn(true);
+        
+        var providers = new Providers(List.of(first, second));
+        
+        assertEquals(List.of(first, second), providers.get("a"));
+        assertEquals(List.of(second), providers.get("b"));
+        assertSame(providers.get("b"), providers.get("b"));
+        assertTrue(providers.get("c").isEmpty());
+        
+        verify(second, times(1)).provides("b");
+    }
+    
+    
+    @Test
+    void get_error() {
+        Iterable<BundleProvider> failing = () -> { throw new ServiceConfigurationError("error"); };
+        
+        assertTrue(new Providers(failing).get("a").isEmpty());
+    }
+    
+    
+    @Test
+    void providers() {
+        assertSame(Providers.providers(), Providers.providers());
+    }
+    
+}
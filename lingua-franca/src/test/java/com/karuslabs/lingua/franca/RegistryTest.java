@@ -0,0 +1,130 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class RegistryTest {
+    
+    final Registry registry = new Registry(true);
+    final Bundle bundle = Bundle.empty(Locale.UK, Bundle.EMPTY);
+    
+    
+    @Test
+    void get() {
+        registry.put("name", Locale.UK, "name_en_GB", bundle);
+        registry.put("other", Locale.ENGLISH, "other_en", Bundle.EMPTY);
+        
+        assertSame(bundle, registry.get("name", Locale.UK));
+        assertSame(Bundle.EMPTY, registry.get("other", Locale.ENGLISH));
+        assertNull(registry.get("name", Locale.ENGLISH));
+        assertNull(registry.get("other", Locale.UK));
+        assertNull(registry.get("unknown", Locale.UK));
+    }
+    
+    
+    @Test
+    void put_all() {
+        var parent = Bundle.empty(Locale.ENGLISH, Bundle.EMPTY);
+        registry.put("name", Map.of(Locale.UK, bundle, Locale.ENGLISH, parent), Map.of(Locale.UK, "name_en_GB", Locale.ENGLISH, "name_en"));
+        
+        assertSame(bundle, registry.get("name", Locale.UK));
+        assertSame(parent, registry.get("name", Locale.ENGLISH));
+        
+        registry.remove("name_en");
+        assertNull(registry.get("name", Locale.ENGLISH));
+    }
+    
+    
+    @Test
+    void remove() {
+        registry.put("name", Locale.UK, "name_en_GB", bundle);
+        registry.remove("name_en_GB");
+        
+        assertNull(registry.get("name", Locale.UK));
+    }
+    
+    
+    @Test
+    void remove_stale() {
+        registry.put("name", Locale.UK, "name_en_GB", bundle);
+        
+        registry.remove("name_en_GB", Bundle.EMPTY);
+        assertSame(bundle, registry.get("name", Locale.UK));
+        
+        registry.remove("name_en_GB", bundle);
+        assertNull(registry.get("name", Locale.UK));
+    }
+    
+    
+    @Test
+    void put_soft() {
+        var soft = new Registry(true, true);
+        soft.put("name", Locale.UK, "name_en_GB", new Bundle(new ConcurrentHashMap<>(), Locale.UK));
+        assertNotNull(soft.get("name", Locale.UK));
+        
+        var pressure = new ArrayList<byte[]>();
+        try {
+            while (soft.get("name", Locale.UK) != null) {
+                pressure.add(new byte[1 << 20]);
+            }
+            
+        } catch (OutOfMemoryError e) {
+            pressure.clear();
+        }
+        pressure.clear();
+        
+        assertNull(soft.get("name", Locale.UK));
+        assertNotNull(soft.entry("name", Locale.UK));
+    }
+    
+    
+    @Test
+    void clear() {
+        registry.put("name", Locale.UK, "name_en_GB", bundle);
+        registry.clear();
+        
+        assertNull(registry.get("name", Locale.UK));
+    }
+    
+    
+    @Test
+    void put_discarded() {
+        var discarded = new Registry(false);
+        discarded.put("name", Locale.UK, "name_en_GB", bundle);
+        
+        assertNull(discarded.get("name", Locale.UK));
+    }
+    
+}
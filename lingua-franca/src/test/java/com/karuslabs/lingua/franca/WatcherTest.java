@@ -0,0 +1,173 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca;
+
+import com.google.common.cache.CacheBuilder;
+
+import com.karuslabs.lingua.franca.metrics.*;
+import com.karuslabs.lingua.franca.sources.SystemSource;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class WatcherTest {
+    
+    @TempDir
+    Path folder;
+    
+    
+    @ParameterizedTest
+    @CsvSource({"watched_en_GB.yml, watched_en_GB", "watched.properties, watched", "watched, watched"})
+    void bundleName(String file, String expected) {
+        assertEquals(expected, Watcher.bundleName(file));
+    }
+    
+    
+    @Test
+    void watch() throws IOException, InterruptedException {
+        Files.writeString(folder.resolve("watched.yml"), "hello: Hello");
+        Files.writeString(folder.resolve("watched_en.yml"), "hello: Hey");
+        
+        var loader = new BundleLoader();
+        var source = new SystemSource(folder.toString());
+        loader.add("watched", source);
+        
+        var bundler = Bundler.builder().loader(loader).build();
+        var bundle = bundler.load("watched", Locale.ENGLISH);
+        assertEquals("Hey", bundle.find("hello"));
+        
+        try (var watcher = new Watcher(bundler, Duration.ofMillis(50))) {
+            watcher.watch(source);
+            assertEquals(Set.of(source), watcher.sources());
+            
+            watcher.start();
+            Files.writeString(folder.resolve("watched_en.yml"), "hello: Howdy");
+            
+            for (int i = 0; i < 200 && bundler.load("watched", Locale.ENGLISH) == bundle; i++) {
+                Thread.sleep(50);
+            }
+        }
+        
+        var reloaded = bundler.load("watched", Locale.ENGLISH);
+        assertEquals("Howdy", reloaded.find("hello"));
+        assertSame(bundle.parent(), reloaded.parent());
+    }
+    
+    
+    @Test
+    void collect_overflow() throws IOException {
+        var event = new WatchEvent<Object>() {
+            @Override
+            public WatchEvent.Kind<Object> kind() {
+                return OVERFLOW;
+            }
+            
+            @Override
+            public int count() {
+                return 1;
+            }
+            
+            @Override
+            public Object context() {
+                return null;
+            }
+        };
+        
+        var key = new WatchKey() {
+            @Override
+            public boolean isValid() {
+                return false;
+            }
+            
+            @Override
+            public List<WatchEvent<?>> pollEvents() {
+                return List.of(event);
+            }
+            
+            @Override
+            public boolean reset() {
+                return false;
+            }
+            
+            @Override
+            public void cancel() {}
+            
+            @Override
+            public Watchable watchable() {
+                return null;
+            }
+        };
+        
+        try (var watcher = new Watcher(Bundler.bundler(), Duration.ofMillis(50))) {
+            var changed = new HashSet<String>();
+            assertTrue(watcher.collect(key, changed));
+            assertTrue(changed.isEmpty());
+        }
+    }
+    
+    
+    @Test
+    void refresh() throws IOException {
+        var reloaded = new boolean[1];
+        var bundler = new Bundler(CacheBuilder.newBuilder().build(), new BundleLoader()) {
+            @Override
+            public CompletableFuture<Void> reloadAll() {
+                reloaded[0] = true;
+                return CompletableFuture.completedFuture(null);
+            }
+            
+            @Override
+            public CompletableFuture<Void> refresh(Collection<String> bundleNames) {
+                throw new IllegalStateException();
+            }
+        };
+        
+        var recorder = new Recorder();
+        Metrics.install(recorder);
+        try (var watcher = new Watcher(bundler, Duration.ofMillis(50))) {
+            watcher.refresh(Set.of("watched"), false);
+            assertEquals(1, recorder.failures());
+            
+            watcher.refresh(Set.of(), true);
+            assertTrue(reloaded[0]);
+            assertEquals(1, recorder.failures());
+            
+        } finally {
+            Metrics.install(Metrics.NONE);
+        }
+    }
+    
+}
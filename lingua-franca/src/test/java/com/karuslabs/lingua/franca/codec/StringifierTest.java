@@ -23,6 +23,11 @@
  */
 package com.karuslabs.lingua.franca.codec;
 
+import com.karuslabs.lingua.franca.Message;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -51,6 +56,33 @@ class StringifierTest {
     }
     
     
+    @Test
+    void from_buffer() {
+        var bytes = "{\"a\": \"b\"}".getBytes();
+        var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        
+        assertEquals("b", Stringifier.stringify().from(ByteBuffer.wrap(bytes), "json").get("a").toString());
+        assertEquals("b", Stringifier.stringify().from(direct, "json").get("a").toString());
+        assertEquals("b", Stringifier.stringify().from(ByteBuffer.wrap("a: b".getBytes()), "yml").get("a").toString());
+    }
+    
+    
+    @Test
+    void from_buffer_exception() {
+        assertNull(Stringifier.stringify().from(ByteBuffer.wrap("{".getBytes()), "json"));
+    }
+    
+    
+    @Test
+    void from_classified() {
+        var results = Stringifier.stringify().from(new ByteArrayInputStream("{\"a\": \"b {0}\", \"c\": \"d\", \"e\": [\"'f'\"]}".getBytes()), "json");
+        
+        assertEquals(new Message("b {0}"), results.get("a"));
+        assertEquals("d", results.get("c"));
+        assertArrayEquals(new String[] {"'f'"}, (String[]) results.get("e"));
+    }
+    
+    
     @Test
     void defaultMapper() {
         assertEquals("Unsupported format: xml", assertThrows(UnsupportedOperationException.class, () -> Stringifier.stringify().mapper("xml")).getMessage());
@@ -60,37 +92,29 @@ class StringifierTest {
     @Test
     void visit_json() {
         var results = Stringifier.stringify().from(getClass().getClassLoader().getResourceAsStream(ENCODED + "json"), "json");
-        assertEquals(13, results.size());
+        assertEquals(6, results.size());
         
         array = (String[]) results.get("a.b");
-        assertArrayEquals(new String[] {"first", "2", "true"}, array);
+        assertArrayEquals(new String[] {"first", null, null, "2", "true"}, array);
         
-        assertEquals("first", results.get("a.b[0]"));
-        assertEquals("2", results.get("a.b[3]"));
-        assertEquals("true", results.get("a.b[4]"));
+        assertNull(results.get("a.b[0]"));
         
         
         array = (String[]) results.get("a.b[1].c");
         assertArrayEquals(new String[] {"second", "1", "false"}, array);
         
-        assertEquals("second", results.get("a.b[1].c[0]"));
-        assertEquals("1", results.get("a.b[1].c[1]"));
-        assertEquals("false", results.get("a.b[1].c[2]"));
-        
         
         array = (String[]) results.get("a.b[2]");
         assertArrayEquals(new String[] {"value"}, array);
         
-        assertEquals("value", results.get("a.b[2][0]"));
-        
         
         assertEquals("third", results.get("e.f"));
         
         assertEquals("fourth", results.get("g"));
         
-        assertArrayEquals(new String[] {}, (String[]) results.get("h"));
+        assertArrayEquals(new String[] {null}, (String[]) results.get("h"));
     }
-        
+    
     
     @Test
     void visit_properties() {
@@ -106,14 +130,12 @@ class StringifierTest {
     void visit_yaml() {
         var results = Stringifier.stringify().from(getClass().getClassLoader().getResourceAsStream(ENCODED + "yml"), "yml");
         
-        assertEquals(7, results.size());
+        assertEquals(4, results.size());
         
         array = (String[]) results.get("a.b");
         assertArrayEquals(new String[] {"first", "1", "true"}, array);
         
-        assertEquals("first", results.get("a.b[0]"));
-        assertEquals("1", results.get("a.b[1]"));
-        assertEquals("true", results.get("a.b[2]"));
+        assertNull(results.get("a.b[0]"));
         
         
         assertEquals("second", results.get("c.d"));
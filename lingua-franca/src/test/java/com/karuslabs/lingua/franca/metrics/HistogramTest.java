@@ -0,0 +1,87 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class HistogramTest {
+    
+    Histogram histogram = new Histogram();
+    
+    
+    @ParameterizedTest
+    @CsvSource({"0, 0", "1, 1", "2, 2", "3, 2", "4, 3", "1024, 11", "9223372036854775807, 31"})
+    void bucket(long micros, int expected) {
+        assertEquals(expected, Histogram.bucket(micros));
+    }
+    
+    
+    @Test
+    void record() {
+        histogram.record(MICROSECONDS.toNanos(1));
+        histogram.record(MICROSECONDS.toNanos(3));
+        histogram.record(MICROSECONDS.toNanos(1000));
+        
+        assertEquals(3, histogram.count());
+        assertEquals(MICROSECONDS.toNanos(1004), histogram.sum());
+        assertEquals(MICROSECONDS.toNanos(1004) / 3, histogram.mean());
+        
+        var buckets = histogram.buckets();
+        assertEquals(1, buckets[1]);
+        assertEquals(1, buckets[2]);
+        assertEquals(1, buckets[10]);
+    }
+    
+    
+    @Test
+    void percentile() {
+        for (int i = 0; i < 9; i++) {
+            histogram.record(MICROSECONDS.toNanos(1));
+        }
+        histogram.record(MICROSECONDS.toNanos(1000));
+        
+        assertEquals(MICROSECONDS.toNanos(2), histogram.percentile(0.5));
+        assertEquals(MICROSECONDS.toNanos(1024), histogram.percentile(1));
+    }
+    
+    
+    @Test
+    void percentile_empty() {
+        assertEquals(0, histogram.percentile(0.99));
+        assertEquals(0, histogram.mean());
+    }
+    
+    
+    @Test
+    void to_string() {
+        assertEquals("Histogram[count = 0, mean = 0ns]", histogram.toString());
+    }
+    
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2018 Karus Labs.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.karuslabs.lingua.franca.metrics;
+
+import com.karuslabs.lingua.franca.*;
+import com.karuslabs.lingua.franca.sources.ClassLoaderSource;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class RecorderTest {
+    
+    Recorder recorder = new Recorder();
+    
+    
+    @BeforeEach
+    void before() {
+        Metrics.install(recorder);
+    }
+    
+    @AfterEach
+    void after() {
+        Metrics.install(Metrics.NONE);
+    }
+    
+    
+    @Test
+    void load() {
+        var loader = new BundleLoader();
+        loader.add(ClassLoaderSource.ROOT);
+        var bundler = Bundler.builder().loader(loader).build();
+        
+        bundler.load("loaded", Locale.UK);
+        bundler.load("loaded", Locale.UK);
+        
+        assertEquals(1, recorder.hits());
+        assertEquals(1, recorder.misses());
+        assertEquals(1, recorder.bundles().count());
+        assertEquals(3, recorder.loads(ClassLoaderSource.ROOT).get("yml").count());
+        assertEquals(3, recorder.parses().get("yml").count());
+        assertTrue(recorder.bytes() > 0);
+        assertEquals(0, recorder.failures());
+    }
+    
+    
+    @Test
+    void evict() {
+        var bundler = Bundler.builder().maximumWeight(0).build();
+        bundler.load("loaded", Locale.UK);
+        
+        assertEquals(3, recorder.evictions());
+    }
+    
+    
+    @Test
+    void fail() {
+        var exception = new IOException();
+        
+        recorder.fail(ClassLoaderSource.ROOT, "bundle.yml", exception);
+        recorder.fail("yml", exception);
+        recorder.fail(List.of("bundle"), new IllegalStateException());
+        
+        assertEquals(3, recorder.failures());
+    }
+    
+    
+    @Test
+    void format() {
+        new Message("a {0}").format(Locale.ENGLISH, 1);
+        new Message("a {0}").formatTo(new StringBuilder(), Locale.ENGLISH, 1L);
+        
+        assertEquals(2, recorder.formats());
+    }
+    
+    
+    @Test
+    void sources() {
+        recorder.load(ClassLoaderSource.ROOT, "yml", 10);
+        
+        assertEquals(1, recorder.sources().size());
+        assertTrue(recorder.loads(new ClassLoaderSource("other")).isEmpty());
+    }
+    
+    
+    @Test
+    void none() {
+        Metrics.install(Metrics.NONE);
+        assertSame(Metrics.NONE, Metrics.metrics());
+    }
+    
+}
@@ -56,6 +56,37 @@ class ClassLoaderSourceTest {
     }
     
     
+    @Test
+    void exists() {
+        assertTrue(SOURCE.exists(FILE));
+        assertFalse(SOURCE.exists("missing.yml"));
+    }
+    
+    
+    @Test
+    void buffer() {
+        assertEquals(SOURCE.size(FILE), SOURCE.buffer(FILE).remaining());
+        assertNull(SOURCE.buffer("missing.yml"));
+    }
+    
+    
+    @Test
+    void metadata() {
+        assertTrue(SOURCE.lastModified(FILE) > 0);
+        assertTrue(SOURCE.size(FILE) > 0);
+        assertEquals(-1, SOURCE.lastModified("missing.yml"));
+        assertEquals(-1, SOURCE.size("missing.yml"));
+    }
+    
+    
+    @Test
+    void index() {
+        var index = new ClassLoaderSource(ClassLoader.getSystemClassLoader(), "sources").index();
+        assertTrue(index == null || index.contains(FILE) && ClassLoaderSource.platform());
+        assertNull(new ClassLoaderSource(new ClassLoader() {}, "sources").index());
+    }
+    
+    
     @ParameterizedTest
     @MethodSource("equality_provider")
     void equals(FileSource other, boolean expected) {
@@ -23,9 +23,14 @@
  */
 package com.karuslabs.lingua.franca.sources;
 
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
 
@@ -61,11 +66,27 @@ class FileSourceTest {
             of(new SystemSource("folder"), true),
             of(new SystemSource("folder/"), true),
             of(new SystemSource("foLder"), false),
+            of(new SystemSource("folder", 0), false),
             of(new ClassLoaderSource("folder"), false)
         );
     }
     
     
+    @Test
+    void scan(@TempDir Path root) throws IOException {
+        Files.createDirectories(root.resolve("folder/nested"));
+        for (var file : List.of("a.json", "b.properties", "c.yml", "nested/d.yaml", "E.class", "f.txt", "nested/g.png")) {
+            Files.writeString(root.resolve("folder").resolve(file), "");
+        }
+        Files.writeString(root.resolve("h.yml"), "");
+        
+        var index = new HashSet<String>();
+        FileSource.scan(root, "folder", index);
+        
+        assertEquals(Set.of("a.json", "b.properties", "c.yml", "nested/d.yaml"), index);
+    }
+    
+    
     @ParameterizedTest
     @MethodSource("toString_provider")
     void source_toString(String folder, String expected) {
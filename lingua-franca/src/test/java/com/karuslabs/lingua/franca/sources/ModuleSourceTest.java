@@ -23,7 +23,7 @@
  */
 package com.karuslabs.lingua.franca.sources;
 
-import java.io.IOException;
+import java.io.*;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -57,6 +57,44 @@ class ModuleSourceTest {
     }
     
     
+    @Test
+    void exists() {
+        assertTrue(SOURCE.exists(FILE));
+        assertFalse(SOURCE.exists("missing.yml"));
+        assertTrue(new ModuleSource(Object.class.getModule(), "java/lang").exists("Object.class"));
+    }
+    
+    
+    @Test
+    void exists_unopened() {
+        var source = new ModuleSource(getClass().getModule(), "sources") {
+            @Override
+            public InputStream load(String resource) {
+                throw new AssertionError("Resource should not be opened");
+            }
+        };
+        
+        assertTrue(source.exists(FILE));
+    }
+    
+    
+    @Test
+    void metadata() {
+        assertTrue(SOURCE.size(FILE) > 0);
+        assertTrue(new ModuleSource(Object.class.getModule(), "java/lang").size("Object.class") > 0);
+        assertEquals(-1, new ModuleSource(Object.class.getModule(), "java/lang").size("Missing.class"));
+        assertTrue(new ModuleSource(Object.class.getModule(), "java/lang").lastModified("Object.class") > 0);
+        assertEquals(-1, new ModuleSource(Object.class.getModule(), "java/lang").lastModified("Missing.class"));
+    }
+    
+    
+    @Test
+    void index() {
+        assertTrue(new ModuleSource(Object.class.getModule(), "java/lang").index().contains("Object.class"));
+        assertNull(SOURCE.index());
+    }
+    
+    
     @ParameterizedTest
     @MethodSource("equality_provider")
     void equals(FileSource other, boolean expected) {
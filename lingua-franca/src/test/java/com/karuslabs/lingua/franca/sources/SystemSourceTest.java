@@ -24,8 +24,14 @@
 
 package com.karuslabs.lingua.franca.sources;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,12 +55,94 @@ class SystemSourceTest {
     }
     
     
+    @Test
+    void load_mapped(@TempDir Path folder) throws IOException {
+        Files.writeString(folder.resolve("mapped.yml"), "a: b");
+        
+        var source = new SystemSource(folder.toString(), 0);
+        try (var stream = source.load("mapped.yml")) {
+            assertEquals("a: b", new String(stream.readAllBytes()));
+        }
+        assertEquals(SystemSource.MAPPED, new SystemSource(folder.toString()).threshold());
+    }
+    
+    
+    @Test
+    void buffer(@TempDir Path folder) {
+        var source = new SystemSource(folder.toString(), 4);
+        
+        assertDoesNotThrow(() -> Files.writeString(folder.resolve("heap.yml"), "a:"));
+        assertDoesNotThrow(() -> Files.writeString(folder.resolve("mapped.yml"), "a: b"));
+        
+        assertTrue(source.buffer("heap.yml").hasArray());
+        assertTrue(source.buffer("mapped.yml").isDirect());
+        assertEquals(4, source.buffer("mapped.yml").remaining());
+        assertNull(source.buffer("missing.yml"));
+    }
+    
+    
+    @Test
+    void oversized(@TempDir Path folder) throws IOException {
+        var file = folder.resolve("oversized.yml");
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.SPARSE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'a'}), Integer.MAX_VALUE);
+        }
+        
+        var source = new SystemSource(folder.toString(), 0);
+        try (var stream = source.load("oversized.yml")) {
+            assertNotNull(stream);
+        }
+        assertNull(source.buffer("oversized.yml"));
+        assertThrows(IOException.class, () -> SystemSource.map(file));
+    }
+    
+    
+    @Test
+    void channel() throws IOException {
+        try (var channel = source.channel("source.yml")) {
+            assertTrue(channel.isOpen());
+        }
+        assertNull(source.channel("missing.yml"));
+        assertNull(source.channel(""));
+    }
+    
+    
+    @Test
+    void exists() {
+        assertTrue(source.exists("source.yml"));
+        assertFalse(source.exists("missing.yml"));
+        assertFalse(source.exists(""));
+    }
+    
+    
+    @Test
+    void metadata(@TempDir Path folder) throws IOException {
+        var file = Files.writeString(folder.resolve("a.yml"), "a: b");
+        var source = new SystemSource(folder.toString());
+        
+        assertEquals(Files.getLastModifiedTime(file).toMillis(), source.lastModified("a.yml"));
+        assertEquals(4, source.size("a.yml"));
+        assertEquals(-1, source.lastModified("missing.yml"));
+        assertEquals(-1, source.size("missing.yml"));
+    }
+    
+    
     @Test
     void load_folder() {
         assertNull(source.load(""));
     }
     
     
+    @Test
+    void index(@TempDir Path folder) throws IOException {
+        var source = new SystemSource(folder.toString());
+        assertNull(source.index());
+        
+        Files.writeString(folder.resolve("a.yml"), "a: b");
+        assertTrue(source.exists("a.yml"));
+    }
+    
+    
     @Test
     void load_exception() {
         assertNull(source.load("source.xml"));